@@ -0,0 +1,43 @@
+plugins {
+    id("java")
+    id("checkstyle")
+    alias(libs.plugins.jmh)
+}
+
+// Benchmarks are never published, so the buildplugin (publishing, javadoc, Java 8 target) is not applied here
+
+checkstyle {
+    configDirectory.set(File("../checkstyle"))
+    toolVersion = "9.3"
+}
+
+repositories {
+    mavenCentral()
+    maven("https://hub.spigotmc.org/nexus/repository/public/")
+}
+
+dependencies {
+    jmh(project(":standalone"))
+    jmh(project(":minimessage"))
+    jmh(project(":bukkit"))
+    jmh(project(":parser-jackson"))
+    jmh(project(":parser-jaskl"))
+
+    jmh(libs.annotations)
+    jmh(libs.adventure.text.minimessage)
+    jmh(libs.jaskl.yaml)
+    jmh(libs.spigot) {
+        exclude("commons-lang")
+        exclude("com.googlecode.json-simple")
+        exclude("com.google.guava")
+        exclude("com.google.code.gson")
+        exclude("org.avaje")
+        exclude("org.yaml")
+    }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,80 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.benchmarks;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.Slams;
+import io.github.almightysatan.slams.minimessage.AdventureMessage;
+import io.github.almightysatan.slams.minimessage.ContextTagResolver;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AdventureMessage#value} for constant, placeholder and local tag messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdventureMessageBenchmark {
+
+    private AdventureMessage constant;
+    private AdventureMessage placeholder;
+    private AdventureMessage local;
+    private TagResolver tagResolver;
+
+    @Setup
+    public void setup() throws IOException {
+        Slams slams = Slams.of("en");
+        ContextTagResolver contextTagResolver = ContextTagResolver.of(Placeholder.constant("server", "SLAMS"));
+        this.constant = AdventureMessage.of("constant", slams, contextTagResolver);
+        this.placeholder = AdventureMessage.of("placeholder", slams, contextTagResolver);
+        this.local = AdventureMessage.of("local", slams, contextTagResolver);
+        this.tagResolver = net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.unparsed("name", "Steve");
+
+        slams.load("en", values -> {
+            values.put("constant", "<red>Welcome</red> to the <bold>server</bold>, have fun!");
+            values.put("placeholder", "<red>Welcome</red> to <server>!");
+            values.put("local", "<red>Hello</red> <name>, welcome to <server>!");
+        });
+    }
+
+    @Benchmark
+    public Component constant() {
+        return this.constant.value(this.tagResolver);
+    }
+
+    @Benchmark
+    public Component placeholder() {
+        return this.placeholder.value(this.tagResolver);
+    }
+
+    @Benchmark
+    public Component local() {
+        return this.local.value(this.tagResolver);
+    }
+}
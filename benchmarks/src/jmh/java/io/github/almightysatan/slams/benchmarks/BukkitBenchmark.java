@@ -0,0 +1,50 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.benchmarks;
+
+import io.github.almightysatan.slams.bukkit.impl.BukkitCompositeComponent;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BukkitCompositeComponent#parse} for strings with and without legacy formatting codes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BukkitBenchmark {
+
+    @Param({
+            "Welcome to the server, have fun!",
+            "§aWelcome §lto §r§bthe §nserver§r, §chave §ofun§r!"
+    })
+    public String text;
+
+    @Benchmark
+    public TextComponent[] parse() {
+        return BukkitCompositeComponent.parse(this.text);
+    }
+}
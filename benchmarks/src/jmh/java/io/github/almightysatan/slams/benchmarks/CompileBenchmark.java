@@ -0,0 +1,67 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.benchmarks;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.standalone.PlaceholderStyle;
+import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import io.github.almightysatan.slams.standalone.impl.StandaloneCompositeComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of compiling a raw string into a {@link StandaloneCompositeComponent}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompileBenchmark {
+
+    @Param({
+            "Welcome to the server, have fun!",
+            "Hello <name>, you have <coins> coins.",
+            "Welcome to <server>! <if_eq:a:a:Enjoy:Leave> your <add:1:2> days.",
+            "Hello <name>, <if_num_gt:<coins>:10:you are <mul:<coins>:2> rich:you are poor>!"
+    })
+    public String raw;
+
+    @Param({"false", "true"})
+    public boolean enableConstexprEval;
+
+    private StandaloneSlams slams;
+    private PlaceholderResolver placeholderResolver;
+
+    @Setup
+    public void setup() {
+        this.slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, this.enableConstexprEval, this.enableConstexprEval);
+        this.placeholderResolver = PlaceholderResolver.builder().builtIn().add(Placeholder.constant("server", "SLAMS")).build();
+    }
+
+    @Benchmark
+    public StandaloneCompositeComponent compile() {
+        return new StandaloneCompositeComponent(this.slams, this.raw, this.placeholderResolver);
+    }
+}
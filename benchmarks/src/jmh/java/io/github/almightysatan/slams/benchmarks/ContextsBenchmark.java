@@ -0,0 +1,99 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.benchmarks;
+
+import io.github.almightysatan.slams.Contexts;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.standalone.PlaceholderStyle;
+import io.github.almightysatan.slams.standalone.StandaloneMessage;
+import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures context lookups via {@link Contexts#find} and messages with a varying number of contextual placeholders.
+ * Lookups scan the contexts. An index of the contexts by type built once per render was only faster from about five
+ * lookups per render.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextsBenchmark {
+
+    @Param({"1", "3", "10"})
+    public int lookups;
+
+    @Param({"2", "3"})
+    public int contexts;
+
+    private StandaloneMessage message;
+    private Object[] contextArray;
+
+    @Setup
+    public void setup() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS);
+        this.message = StandaloneMessage.of("message", slams, PlaceholderResolver.builder()
+                .contextual("player", Player.class, player -> player.name)
+                .contextual("world", World.class, world -> world.name)
+                .build());
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < this.lookups; i++)
+            builder.append(i % 2 == 0 ? "<player> " : "<world> ");
+        slams.load("en", values -> values.put("message", builder.toString()));
+
+        this.contextArray = this.contexts == 2
+                ? new Object[]{new World("world"), new Player("Steve")}
+                : new Object[]{new World("world"), "other", new Player("Steve")};
+    }
+
+    @Benchmark
+    public Player find() {
+        return Contexts.find(this.contextArray, Player.class);
+    }
+
+    @Benchmark
+    public String render() {
+        return this.message.value(this.contextArray);
+    }
+
+    public static class Player {
+
+        private final String name;
+
+        public Player(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class World {
+
+        private final String name;
+
+        public World(String name) {
+            this.name = name;
+        }
+    }
+}
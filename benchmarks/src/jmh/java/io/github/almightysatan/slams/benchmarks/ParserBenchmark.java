@@ -0,0 +1,109 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.benchmarks;
+
+import io.github.almightysatan.jaskl.yaml.YamlConfig;
+import io.github.almightysatan.slams.Slams;
+import io.github.almightysatan.slams.parser.JacksonParser;
+import io.github.almightysatan.slams.parser.JasklParser;
+import io.github.almightysatan.slams.standalone.StandaloneMessage;
+import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a generated language file with {@link JacksonParser} and {@link JasklParser}. Each message is
+ * stored at {@code section<i / 100>.message<i>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final int SECTION_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    public int messages;
+
+    private File jsonFile;
+    private File yamlFile;
+    private Slams slams;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.jsonFile = File.createTempFile("slams", ".json");
+        this.yamlFile = File.createTempFile("slams", ".yaml");
+        this.jsonFile.deleteOnExit();
+        this.yamlFile.deleteOnExit();
+
+        try (Writer json = Files.newBufferedWriter(this.jsonFile.toPath(), StandardCharsets.UTF_8);
+             Writer yaml = Files.newBufferedWriter(this.yamlFile.toPath(), StandardCharsets.UTF_8)) {
+            json.write("{");
+            for (int i = 0; i < this.messages; i++) {
+                String value = "Message " + i + " for <name>, you have <coins> coins";
+                if (i % SECTION_SIZE == 0) {
+                    if (i != 0)
+                        json.write("},");
+                    json.write("\"section" + i / SECTION_SIZE + "\":{");
+                    yaml.write("section" + i / SECTION_SIZE + ":\n");
+                } else
+                    json.write(",");
+                json.write("\"message" + i + "\":\"" + value + "\"");
+                yaml.write("  message" + i + ": \"" + value + "\"\n");
+            }
+            json.write("}}");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createSlams() {
+        // A language can only be loaded once per Slams instance
+        StandaloneSlams slams = StandaloneSlams.of("en");
+        for (int i = 0; i < this.messages; i++)
+            StandaloneMessage.of("section" + i / SECTION_SIZE + ".message" + i, slams);
+        this.slams = slams;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.jsonFile.delete();
+        this.yamlFile.delete();
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        this.slams.load("en", JacksonParser.createJsonParser(this.jsonFile));
+    }
+
+    @Benchmark
+    public void jaskl() throws IOException {
+        this.slams.load("en", JasklParser.createReadParser(YamlConfig.of(this.yamlFile)));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.benchmarks;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.ReusablePlaceholderResolver;
+import io.github.almightysatan.slams.standalone.PlaceholderStyle;
+import io.github.almightysatan.slams.standalone.StandaloneMessage;
+import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StandaloneMessage#value} for plain, constant, local and nested placeholders with and without
+ * constexpr evaluation and inlining, as well as the cost of creating a {@link PlaceholderResolver} per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandaloneMessageBenchmark {
+
+    @Param({"false", "true"})
+    public boolean enableConstexprEval;
+
+    @Param({"false", "true"})
+    public boolean enableInline;
+
+    private StandaloneMessage plain;
+    private StandaloneMessage constant;
+    private StandaloneMessage local;
+    private StandaloneMessage nested;
+    private PlaceholderResolver placeholderResolver;
+
+    @Setup
+    public void setup() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, this.enableConstexprEval, this.enableInline);
+        PlaceholderResolver messageResolver = PlaceholderResolver.builder().builtIn().add(Placeholder.constant("server", "SLAMS")).build();
+        this.plain = StandaloneMessage.of("plain", slams, messageResolver);
+        this.constant = StandaloneMessage.of("constant", slams, messageResolver);
+        this.local = StandaloneMessage.of("local", slams, messageResolver);
+        this.nested = StandaloneMessage.of("nested", slams, messageResolver);
+        this.placeholderResolver = PlaceholderResolver.of(Placeholder.constant("name", "Steve"), Placeholder.constant("coins", 42));
+
+        slams.load("en", values -> {
+            values.put("plain", "Welcome to the server, have fun!");
+            values.put("constant", "Welcome to <server>! <if_eq:a:a:Enjoy:Leave> your <add:1:2> days.");
+            values.put("local", "Hello <name>, you have <coins> coins.");
+            values.put("nested", "Hello <name>, <if_num_gt:<coins>:10:you are <mul:<coins>:2> rich:you are poor>!");
+        });
+    }
+
+    @Benchmark
+    public String plain() {
+        return this.plain.value(this.placeholderResolver);
+    }
+
+    @Benchmark
+    public String constant() {
+        return this.constant.value(this.placeholderResolver);
+    }
+
+    @Benchmark
+    public String local() {
+        return this.local.value(this.placeholderResolver);
+    }
+
+    @Benchmark
+    public String nested() {
+        return this.nested.value(this.placeholderResolver);
+    }
+
+    @Benchmark
+    public String localPerCallBuilder() {
+        return this.local.value(PlaceholderResolver.builder().constant("name", "Steve").constant("coins", 42).build());
+    }
+
+    @Benchmark
+    public String localPerCallReusable() {
+        try (ReusablePlaceholderResolver resolver = ReusablePlaceholderResolver.acquire()) {
+            return this.local.value(resolver.set("name", "Steve").set("coins", 42));
+        }
+    }
+}
@@ -21,6 +21,7 @@
 package io.github.almightysatan.slams.bukkit;
 
 import io.github.almightysatan.slams.*;
+import io.github.almightysatan.slams.bukkit.impl.BukkitBroadcast;
 import io.github.almightysatan.slams.bukkit.impl.BukkitTypes;
 import io.github.almightysatan.slams.impl.MessageImpl;
 import io.github.almightysatan.slams.standalone.PlaceholderStyle;
@@ -31,6 +32,10 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * Represents a {@link Message} in {@link BaseComponent} format.
  */
@@ -73,6 +78,40 @@ public interface BukkitMessage extends Message<BaseComponent[]> {
         this.send(target, PlaceholderResolver.empty(), contexts);
     }
 
+    /**
+     * Sends this message to all given recipients. Recipients are grouped by the language returned by the language
+     * function and by the contexts returned by the context function. The message is rendered once per group and the
+     * result is sent to every recipient of the group. Contexts are compared using {@link Object#equals(Object)} and are
+     * ignored if the message does not depend on them. Recipients with contexts that are not equal to the contexts of
+     * any other recipient, for example a {@link PlayerContext} of the recipient, are rendered individually.
+     *
+     * @param targets             the recipients
+     * @param languageFunction    returns the language identifier of a recipient or {@code null}
+     * @param placeholderResolver a {@link PlaceholderResolver}
+     * @param contextFunction     returns the contexts of a recipient
+     * @throws UnknownLanguageException    if a language can not be found
+     * @throws MissingTranslationException if a language has no translation for this message
+     */
+    default void broadcast(@NotNull Collection<? extends @NotNull CommandSender> targets, @NotNull Function<? super @NotNull CommandSender, @Nullable String> languageFunction,
+            @NotNull PlaceholderResolver placeholderResolver, @NotNull Function<? super @NotNull CommandSender, @NotNull Object @NotNull []> contextFunction) throws MissingTranslationException, UnknownLanguageException {
+        BukkitBroadcast.broadcast(this, targets, languageFunction, placeholderResolver, contextFunction);
+    }
+
+    default void broadcast(@NotNull Collection<? extends @NotNull CommandSender> targets, @Nullable String language, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        Objects.requireNonNull(contexts);
+        this.broadcast(targets, target -> language, placeholderResolver, target -> contexts);
+    }
+
+    default void broadcast(@NotNull Collection<? extends @NotNull CommandSender> targets, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        this.broadcast(targets, (String) null, placeholderResolver, contexts);
+    }
+
+    default void broadcast(@NotNull Collection<? extends @NotNull CommandSender> targets, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        this.broadcast(targets, PlaceholderResolver.empty(), contexts);
+    }
+
     @Override
     default @NotNull BaseComponent @NotNull [] value(@Nullable String language, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
         return this.translate(language).value(placeholderResolver, contexts);
@@ -110,6 +149,14 @@ public interface BukkitMessage extends Message<BaseComponent[]> {
             protected @NotNull Translation<BaseComponent[]> toMessageValue(@NotNull Object value) {
                 return BukkitTypes.messageValue(slams, placeholderResolver, value);
             }
+
+            @Override
+            public void send(@NotNull Player target, @Nullable String language, @NotNull PlaceholderResolver placeholderResolver,
+                    @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+                // the value is only serialized, so the shared components of the translation can be sent as they are
+                BaseComponent[] value = this.render(this.translate(language, contexts), placeholderResolver, contexts, BukkitTypes::sharedValue);
+                target.spigot().sendMessage(value);
+            }
         }
         return new BukkitMessageImpl();
     }
@@ -25,7 +25,14 @@ import io.github.almightysatan.slams.Translation;
 import net.md_5.bungee.api.chat.BaseComponent;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+
 public interface BukkitTranslation extends Translation<BaseComponent[]> {
 
     @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts);
+
+    @Override
+    default void renderTo(@NotNull Appendable appendable, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws IOException {
+        appendable.append(this.stringValue(placeholderResolver, contexts));
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.bukkit.impl;
+
+import io.github.almightysatan.slams.Component;
+import io.github.almightysatan.slams.MissingTranslationException;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.Translation;
+import io.github.almightysatan.slams.UnknownLanguageException;
+import io.github.almightysatan.slams.bukkit.BukkitMessage;
+import io.github.almightysatan.slams.bukkit.BukkitTranslation;
+import io.github.almightysatan.slams.impl.MessageImpl;
+import net.md_5.bungee.api.chat.BaseComponent;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Sends a {@link BukkitMessage} to multiple recipients. Recipients are grouped by their {@link Translation} and their
+ * contexts, the message is rendered once per group. The contexts are ignored if the {@link Translation} does not
+ * depend on them. All translations are resolved before anything is sent, so a missing translation does not leave the
+ * broadcast half sent.
+ */
+@ApiStatus.Internal
+public class BukkitBroadcast {
+
+    private BukkitBroadcast() {}
+
+    public static void broadcast(@NotNull BukkitMessage message, @NotNull Collection<? extends @NotNull CommandSender> targets,
+            @NotNull Function<? super @NotNull CommandSender, @Nullable String> languageFunction, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Function<? super @NotNull CommandSender, @NotNull Object @NotNull []> contextFunction) throws MissingTranslationException, UnknownLanguageException {
+        Objects.requireNonNull(targets);
+        Objects.requireNonNull(languageFunction);
+        Objects.requireNonNull(placeholderResolver);
+        Objects.requireNonNull(contextFunction);
+
+        Map<Group, Group> groups = new LinkedHashMap<>();
+        for (CommandSender target : targets) {
+            Object[] contexts = contextFunction.apply(target);
+            Translation<BaseComponent[]> translation = message.translate(languageFunction.apply(target), contexts);
+            Group key = new Group(translation, placeholderResolver, contexts);
+            Group group = groups.putIfAbsent(key, key);
+            (group != null ? group : key).targets.add(target);
+        }
+
+        for (Group group : groups.keySet())
+            group.send(message);
+    }
+
+    /**
+     * Renders the given {@link Translation} through {@link MessageImpl#render(Translation, PlaceholderResolver, Object[], MessageImpl.Renderer)}
+     * if possible, so the render is reported to the instrumentation.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> @NotNull R render(@NotNull BukkitMessage message, @NotNull Translation<BaseComponent[]> translation,
+            @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts, MessageImpl.@NotNull Renderer<BaseComponent[], R> renderer) {
+        if (message instanceof MessageImpl)
+            return ((MessageImpl<BaseComponent[]>) message).render(translation, placeholderResolver, contexts, renderer);
+        return renderer.render(translation, placeholderResolver, contexts);
+    }
+
+    private static @NotNull String stringValue(@NotNull Translation<BaseComponent[]> translation, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts) {
+        if (translation instanceof BukkitTranslation)
+            return ((BukkitTranslation) translation).stringValue(placeholderResolver, contexts);
+        return BaseComponent.toLegacyText(translation.value(placeholderResolver, contexts));
+    }
+
+    /**
+     * Recipients that receive the same {@link Translation} with equal contexts. The message is rendered once for all
+     * {@link Player Players} and once for all other {@link CommandSender CommandSenders} of the group.
+     */
+    private static class Group {
+
+        private final Translation<BaseComponent[]> translation;
+        private final PlaceholderResolver placeholderResolver;
+        private final Object[] contexts;
+        private final boolean constexpr;
+        private final int hashCode;
+        private final List<CommandSender> targets = new ArrayList<>();
+
+        private Group(@NotNull Translation<BaseComponent[]> translation, @NotNull PlaceholderResolver placeholderResolver,
+                @NotNull Object @NotNull [] contexts) {
+            this.translation = translation;
+            this.placeholderResolver = placeholderResolver;
+            this.contexts = contexts;
+            this.constexpr = translation instanceof Component && ((Component<?>) translation).constexpr();
+            this.hashCode = 31 * System.identityHashCode(translation) + (this.constexpr ? 0 : Arrays.hashCode(contexts));
+        }
+
+        private void send(@NotNull BukkitMessage message) {
+            BaseComponent[] value = null;
+            String stringValue = null;
+            for (CommandSender target : this.targets) {
+                if (target instanceof Player) {
+                    if (value == null)
+                        value = render(message, this.translation, this.placeholderResolver, this.contexts, BukkitTypes::sharedValue);
+                    ((Player) target).spigot().sendMessage(value);
+                } else {
+                    if (stringValue == null)
+                        stringValue = render(message, this.translation, this.placeholderResolver, this.contexts, BukkitBroadcast::stringValue);
+                    target.sendMessage(stringValue);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Group))
+                return false;
+            Group group = (Group) o;
+            return this.translation == group.translation && (this.constexpr || Arrays.equals(this.contexts, group.contexts));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -29,54 +29,153 @@ import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 @ApiStatus.Internal
 public class BukkitCompositeComponent extends CompositeComponent<TextComponent[]> implements BukkitTranslation {
 
     private static final ValueFactory<TextComponent[]> FACTORY = BukkitCompositeComponent::parse;
+    private static final Object[] EMPTY_CONTEXTS = new Object[0];
+
+    /**
+     * The pre-resolved values of constant components or {@code null} for components that are evaluated on every
+     * render. Formatting is already inherited within each value. These {@link TextComponent TextComponents} are
+     * shared between renders and must not be modified.
+     */
+    private final TextComponent[][] templates;
+    /**
+     * The pre-resolved value of this component if all components are constant, {@code null} otherwise.
+     */
+    private final TextComponent[] template;
 
     protected BukkitCompositeComponent(@NotNull StandaloneSlams slams, @NotNull String raw, @NotNull PlaceholderResolver placeholderResolver) {
         super(slams, raw, placeholderResolver);
+        this.templates = this.templates();
+        this.template = this.template();
     }
     
     protected BukkitCompositeComponent(@NotNull Component<TextComponent[]>[] components) {
         super(components);
+        this.templates = this.templates();
+        this.template = this.template();
     }
 
     @Override
     public @NotNull TextComponent @NotNull [] value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+        return this.render(placeholderResolver, contexts, true);
+    }
+
+    /**
+     * Replaces placeholders and returns the resulting value. Unlike {@link #value(PlaceholderResolver, Object[])}
+     * {@link TextComponent TextComponents} are only copied if they inherit formatting from the previous
+     * {@link TextComponent}. The returned array and its {@link TextComponent TextComponents} may be shared with
+     * other renders and must not be modified.
+     *
+     * @param placeholderResolver a {@link PlaceholderResolver}
+     * @param contexts            the contexts supplied to this message
+     * @return the value
+     */
+    public @NotNull TextComponent @NotNull [] sharedValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+        return this.render(placeholderResolver, contexts, false);
+    }
+
+    private @NotNull TextComponent @NotNull [] render(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts, boolean copy) {
+        if (this.template != null) {
+            if (!copy)
+                return this.template;
+            TextComponent[] components = new TextComponent[this.template.length];
+            for (int i = 0; i < components.length; i++)
+                components[i] = new TextComponent(this.template[i]);
+            return components;
+        }
+
         List<TextComponent> components = new ArrayList<>();
-        this.value(placeholderResolver, contexts, value -> {
-            for (TextComponent component : value) {
-                TextComponent copy = new TextComponent(component);
-                if (components.isEmpty()) {
-                    components.add(copy);
-                    continue;
-                }
+        Consumer<TextComponent[]> consumer = value -> append(components, value, copy);
+        for (int i = 0; i < this.components.length; i++) {
+            TextComponent[] template = this.templates[i];
+            if (template != null)
+                append(components, template, copy);
+            else
+                this.components[i].value(placeholderResolver, contexts, consumer);
+        }
+        return components.toArray(new TextComponent[0]);
+    }
 
-                TextComponent prev = components.get(components.size() - 1);
-                if (prev.getColorRaw() != null && copy.getColorRaw() == null)
-                    copy.setColor(prev.getColorRaw());
-                if (prev.isBoldRaw() != null && copy.isBoldRaw() == null)
-                    copy.setBold(prev.isBoldRaw());
-                if (prev.isItalicRaw() != null && copy.isItalicRaw() == null)
-                    copy.setItalic(prev.isItalicRaw());
-                if (prev.isUnderlinedRaw() != null && copy.isUnderlinedRaw() == null)
-                    copy.setUnderlined(prev.isUnderlinedRaw());
-                if (prev.isStrikethroughRaw() != null && copy.isStrikethroughRaw() == null)
-                    copy.setStrikethrough(prev.isStrikethroughRaw());
-                if (prev.isObfuscatedRaw() != null && copy.isObfuscatedRaw() == null)
-                    copy.setObfuscated(prev.isObfuscatedRaw());
-                components.add(copy);
+    private @Nullable TextComponent @NotNull [] @Nullable [] templates() {
+        TextComponent[][] templates = new TextComponent[this.components.length][];
+        for (int i = 0; i < templates.length; i++) {
+            Component<TextComponent[]> component = this.components[i];
+            if (isConstant(component)) {
+                List<TextComponent> value = new ArrayList<>();
+                append(value, component.value(PlaceholderResolver.empty(), EMPTY_CONTEXTS), false);
+                templates[i] = value.toArray(new TextComponent[0]);
             }
-        });
+        }
+        return templates;
+    }
+
+    private @NotNull TextComponent @Nullable [] template() {
+        List<TextComponent> components = new ArrayList<>();
+        for (TextComponent[] template : this.templates) {
+            if (template == null)
+                return null;
+            append(components, template, false);
+        }
         return components.toArray(new TextComponent[0]);
     }
 
+    /**
+     * Appends the given {@link TextComponent TextComponents}. A {@link TextComponent} that does not set a format of
+     * the previous {@link TextComponent} is copied and inherits the format. Other {@link TextComponent TextComponents}
+     * are only copied if {@code copy} is {@code true}.
+     */
+    private static void append(@NotNull List<TextComponent> components, @NotNull TextComponent @NotNull [] value, boolean copy) {
+        for (TextComponent component : value) {
+            TextComponent prev = components.isEmpty() ? null : components.get(components.size() - 1);
+            if (prev != null && inherits(prev, component))
+                components.add(inherit(prev, component));
+            else
+                components.add(copy ? new TextComponent(component) : component);
+        }
+    }
+
+    private static boolean inherits(@NotNull TextComponent prev, @NotNull TextComponent component) {
+        return prev.getColorRaw() != null && component.getColorRaw() == null
+                || prev.isBoldRaw() != null && component.isBoldRaw() == null
+                || prev.isItalicRaw() != null && component.isItalicRaw() == null
+                || prev.isUnderlinedRaw() != null && component.isUnderlinedRaw() == null
+                || prev.isStrikethroughRaw() != null && component.isStrikethroughRaw() == null
+                || prev.isObfuscatedRaw() != null && component.isObfuscatedRaw() == null;
+    }
+
+    private static @NotNull TextComponent inherit(@NotNull TextComponent prev, @NotNull TextComponent component) {
+        TextComponent copy = new TextComponent(component);
+        if (prev.getColorRaw() != null && copy.getColorRaw() == null)
+            copy.setColor(prev.getColorRaw());
+        if (prev.isBoldRaw() != null && copy.isBoldRaw() == null)
+            copy.setBold(prev.isBoldRaw());
+        if (prev.isItalicRaw() != null && copy.isItalicRaw() == null)
+            copy.setItalic(prev.isItalicRaw());
+        if (prev.isUnderlinedRaw() != null && copy.isUnderlinedRaw() == null)
+            copy.setUnderlined(prev.isUnderlinedRaw());
+        if (prev.isStrikethroughRaw() != null && copy.isStrikethroughRaw() == null)
+            copy.setStrikethrough(prev.isStrikethroughRaw());
+        if (prev.isObfuscatedRaw() != null && copy.isObfuscatedRaw() == null)
+            copy.setObfuscated(prev.isObfuscatedRaw());
+        return copy;
+    }
+
+    @Override
+    public void renderTo(@NotNull Appendable appendable, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws IOException {
+        this.writeTo(placeholderResolver, contexts, appendable);
+    }
+
     @Override
     protected @NotNull CompositeComponent<TextComponent[]> composite(@NotNull Component<TextComponent[]>[] components) {
         return new BukkitCompositeComponent(components);
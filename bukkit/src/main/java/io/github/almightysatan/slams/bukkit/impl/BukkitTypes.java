@@ -22,9 +22,11 @@ package io.github.almightysatan.slams.bukkit.impl;
 
 import io.github.almightysatan.slams.InvalidTypeException;
 import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.Translation;
 import io.github.almightysatan.slams.bukkit.BukkitTranslation;
 import io.github.almightysatan.slams.impl.Types;
 import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import net.md_5.bungee.api.chat.BaseComponent;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -34,4 +36,20 @@ public interface BukkitTypes {
     static @NotNull BukkitTranslation messageValue(@NotNull StandaloneSlams slams, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object input) throws InvalidTypeException {
         return new BukkitCompositeComponent(slams, Types.checkString(input), placeholderResolver);
     }
+
+    /**
+     * Replaces placeholders and returns the resulting value. The returned components may be shared with other renders
+     * and must not be modified. Used when the value is sent right away.
+     *
+     * @param translation         the {@link Translation}
+     * @param placeholderResolver a {@link PlaceholderResolver}
+     * @param contexts            the contexts supplied to this message
+     * @return the value
+     */
+    static @NotNull BaseComponent @NotNull [] sharedValue(@NotNull Translation<BaseComponent[]> translation,
+            @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+        if (translation instanceof BukkitCompositeComponent)
+            return ((BukkitCompositeComponent) translation).sharedValue(placeholderResolver, contexts);
+        return translation.value(placeholderResolver, contexts);
+    }
 }
@@ -27,11 +27,14 @@ import io.github.almightysatan.slams.standalone.StandaloneSlams;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -292,6 +295,51 @@ public class BukkitTest {
         assertEquals("Hello §1World!", entry3.stringValue());
     }
     
+    @Test
+    public void testBroadcast() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        int[] count = new int[1];
+        BukkitMessage entry = BukkitMessage.of("test", slams, Placeholder.withContext("test", contexts -> {
+            count[0]++;
+            return contexts.length > 0 ? contexts[0] : "World";
+        }));
+
+        slams.load("0", values -> values.put("test", "Hello <test>!"));
+        slams.load("1", values -> values.put("test", "Hallo <test>!"));
+
+        List<String> messages = new ArrayList<>();
+        List<CommandSender> targets = Arrays.asList(sender("a", messages), sender("b", messages), sender("c", messages));
+
+        entry.broadcast(targets);
+        assertEquals(1, count[0]);
+        assertEquals(Arrays.asList("Hello World!", "Hello World!", "Hello World!"), messages);
+
+        messages.clear();
+        Object[] contexts = new Object[0];
+        entry.broadcast(targets, target -> target.getName().equals("a") ? "1" : "0", PlaceholderResolver.empty(), target -> contexts);
+        assertEquals(3, count[0]);
+        assertEquals(Arrays.asList("Hallo World!", "Hello World!", "Hello World!"), messages);
+
+        messages.clear();
+        entry.broadcast(targets, target -> null, PlaceholderResolver.empty(), target -> new Object[]{target.getName()});
+        assertEquals(6, count[0]);
+        assertEquals(Arrays.asList("Hello a!", "Hello b!", "Hello c!"), messages);
+    }
+
+    private static @NotNull CommandSender sender(@NotNull String name, @NotNull List<String> messages) {
+        return (CommandSender) Proxy.newProxyInstance(BukkitTest.class.getClassLoader(), new Class[]{CommandSender.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return name;
+                case "sendMessage":
+                    messages.add((String) args[0]);
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
     public static void assertMessageEquals(BaseComponent[] expected, BaseComponent[] actual) {
         // Compares the result of toString as TextComponent does not implement an equals method
         assertArrayEquals(Arrays.stream(expected).map(BaseComponent::toString).toArray(String[]::new), Arrays.stream(actual).map(BaseComponent::toString).toArray(String[]::new));
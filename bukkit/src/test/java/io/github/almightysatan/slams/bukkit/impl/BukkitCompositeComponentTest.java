@@ -24,7 +24,9 @@ import io.github.almightysatan.slams.Placeholder;
 import io.github.almightysatan.slams.PlaceholderResolver;
 import io.github.almightysatan.slams.standalone.PlaceholderStyle;
 import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.chat.TextComponent;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -47,4 +49,27 @@ public class BukkitCompositeComponentTest {
         Assertions.assertEquals("worldworld", BaseComponent.toPlainText(component2.value(PlaceholderResolver.empty(), new Object[0])));
         Assertions.assertEquals(1, component2.size());
     }
+
+    @Test
+    public void testTemplate() {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, true, true);
+        BukkitCompositeComponent component = new BukkitCompositeComponent(slams, "\u00a7cHello \u00a7lWorld", PlaceholderResolver.empty());
+        TextComponent[] shared = component.sharedValue(PlaceholderResolver.empty(), new Object[0]);
+        Assertions.assertSame(shared, component.sharedValue(PlaceholderResolver.empty(), new Object[0]));
+        Assertions.assertEquals(ChatColor.RED, shared[1].getColorRaw());
+        Assertions.assertEquals(Boolean.TRUE, shared[1].isBoldRaw());
+
+        TextComponent[] copy = component.value(PlaceholderResolver.empty(), new Object[0]);
+        Assertions.assertNotSame(shared[0], copy[0]);
+        Assertions.assertEquals(BaseComponent.toLegacyText(shared), BaseComponent.toLegacyText(copy));
+
+        BukkitCompositeComponent dynamic = new BukkitCompositeComponent(slams, "\u00a7cHello <test>!",
+                Placeholder.withContext("test", contexts -> "World"));
+        TextComponent[] value0 = dynamic.sharedValue(PlaceholderResolver.empty(), new Object[0]);
+        TextComponent[] value1 = dynamic.sharedValue(PlaceholderResolver.empty(), new Object[0]);
+        Assertions.assertSame(value0[0], value1[0]);
+        Assertions.assertEquals(ChatColor.RED, value0[1].getColorRaw());
+        Assertions.assertEquals(ChatColor.RED, value0[2].getColorRaw());
+        Assertions.assertEquals("Hello World!", BaseComponent.toPlainText(value0));
+    }
 }
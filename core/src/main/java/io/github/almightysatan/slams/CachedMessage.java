@@ -0,0 +1,213 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import io.github.almightysatan.slams.impl.CachedMessageImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link Message} that caches the values it renders. Values are cached per {@link Translation},
+ * {@link PlaceholderResolver} and contexts, so messages that are rendered with the same language, resolver and contexts
+ * over and over again (e.g. a scoreboard line) are only evaluated once. Loading or reloading languages invalidates
+ * all cached values.
+ * <p>
+ * Only values rendered with an immutable {@link PlaceholderResolver} ({@link PlaceholderResolver#empty()},
+ * {@link PlaceholderResolver#of(Placeholder)} or a {@link PlaceholderResolver#compile compiled} resolver) are cached,
+ * as other resolvers are usually created per call and would never be hit again. Resolvers are compared by identity, so
+ * immutable resolvers should be created once and reused. Use {@link Builder#ignoreResolver()} to cache values per
+ * language and contexts regardless of the resolver.
+ * <p>
+ * {@link Placeholder Placeholders} are not re-evaluated while a value is cached, even if they are not constant.
+ * Every caller receives a copy of the cached value made by the {@link Builder#copier copier}. The default copier only
+ * copies arrays, values of mutable types such as Bukkit's {@code BaseComponent} require a custom copier.
+ *
+ * @param <T> the type of this message's value
+ */
+public interface CachedMessage<T> extends Message<T> {
+
+    /**
+     * Returns how many times a value has been served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    long hits();
+
+    /**
+     * Returns how many times a value had to be rendered because it was not cached or had expired.
+     *
+     * @return the number of cache misses
+     */
+    long misses();
+
+    /**
+     * Returns the number of cached values. This may include expired values that have not been evicted yet.
+     *
+     * @return the number of cached values
+     */
+    int size();
+
+    /**
+     * Removes all cached values.
+     */
+    void invalidateAll();
+
+    /**
+     * Removes all cached values that have been rendered with the given context.
+     *
+     * @param context the context
+     */
+    void invalidate(@NotNull Object context);
+
+    /**
+     * Returns a new {@link Builder Builder} for a {@link CachedMessage} that caches the values of the given
+     * {@link Message}.
+     *
+     * @param message the message
+     * @param <T>     the type of the message's value
+     * @return a new {@link Builder Builder}
+     */
+    static <T> @NotNull Builder<T> builder(@NotNull Message<T> message) {
+        Objects.requireNonNull(message);
+        return new Builder<T>() {
+            private int maximumSize = 1024;
+            private Duration expireAfterWrite;
+            private boolean identityContexts;
+            private boolean ignoreResolver;
+            private UnaryOperator<T> copier;
+
+            @Override
+            public @NotNull Builder<T> maximumSize(int maximumSize) {
+                if (maximumSize <= 0)
+                    throw new IllegalArgumentException("Maximum size should be positive");
+                this.maximumSize = maximumSize;
+                return this;
+            }
+
+            @Override
+            public @NotNull Builder<T> expireAfterWrite(@NotNull Duration duration) {
+                if (duration.isNegative() || duration.isZero())
+                    throw new IllegalArgumentException("Duration should be positive");
+                this.expireAfterWrite = duration;
+                return this;
+            }
+
+            @Override
+            public @NotNull Builder<T> identityContexts() {
+                this.identityContexts = true;
+                return this;
+            }
+
+            @Override
+            public @NotNull Builder<T> ignoreResolver() {
+                this.ignoreResolver = true;
+                return this;
+            }
+
+            @Override
+            public @NotNull Builder<T> copier(@NotNull UnaryOperator<T> copier) {
+                this.copier = Objects.requireNonNull(copier);
+                return this;
+            }
+
+            @Override
+            public @NotNull CachedMessage<T> build() {
+                return new CachedMessageImpl<>(message, this.maximumSize, this.expireAfterWrite == null ? 0 : this.expireAfterWrite.toNanos(),
+                        this.identityContexts, this.ignoreResolver, this.copier);
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@link CachedMessage} that caches up to 1024 values of the given {@link Message}. Values do not
+     * expire.
+     *
+     * @param message the message
+     * @param <T>     the type of the message's value
+     * @return a new {@link CachedMessage}
+     */
+    static <T> @NotNull CachedMessage<T> of(@NotNull Message<T> message) {
+        return builder(message).build();
+    }
+
+    /**
+     * Used to create a {@link CachedMessage}.
+     *
+     * @param <T> the type of the message's value
+     */
+    interface Builder<T> {
+
+        /**
+         * Sets the maximum number of cached values. If the limit is exceeded, the least recently used value is
+         * evicted. Defaults to 1024.
+         *
+         * @param maximumSize the maximum number of cached values
+         * @return this {@link Builder}
+         */
+        @NotNull Builder<T> maximumSize(int maximumSize);
+
+        /**
+         * Values expire once the given {@link Duration} has passed after they have been rendered. By default values do
+         * not expire.
+         *
+         * @param duration the duration
+         * @return this {@link Builder}
+         */
+        @NotNull Builder<T> expireAfterWrite(@NotNull Duration duration);
+
+        /**
+         * Contexts are compared by identity instead of {@link Object#equals(Object)}.
+         *
+         * @return this {@link Builder}
+         */
+        @NotNull Builder<T> identityContexts();
+
+        /**
+         * The {@link PlaceholderResolver} is not part of the key, values are cached per language and contexts only.
+         * Use this if the {@link PlaceholderResolver PlaceholderResolvers} passed to this message are created per call
+         * but always resolve the same values for the same contexts.
+         *
+         * @return this {@link Builder}
+         */
+        @NotNull Builder<T> ignoreResolver();
+
+        /**
+         * Sets the function used to copy cached values before they are returned. Callers may modify the returned
+         * copies without affecting the cache. By default arrays (including nested arrays) are copied, but not their
+         * elements. For example a Bukkit message requires
+         * {@code components -> Arrays.stream(components).map(BaseComponent::duplicate).toArray(BaseComponent[]::new)}.
+         *
+         * @param copier the copier
+         * @return this {@link Builder}
+         */
+        @NotNull Builder<T> copier(@NotNull UnaryOperator<T> copier);
+
+        /**
+         * Creates a new {@link CachedMessage} from this {@link Builder}.
+         *
+         * @return a new {@link CachedMessage}
+         */
+        @NotNull CachedMessage<T> build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Placeholder} that caches the values of another {@link Placeholder} for a fixed amount of time. Values are
+ * cached per key (derived from the contexts, e.g. a player's UUID) and arguments. Expired values are evicted lazily,
+ * when they are accessed or when the cache is full.
+ * <p>
+ * A cached placeholder is never {@link #constexpr() constexpr} and never processes its arguments when a message is
+ * loaded, as its value may change whenever a cached value expires.
+ *
+ * @see Placeholder#cached(Placeholder, java.time.Duration, Placeholder.CacheKeyFunction)
+ */
+public interface CachedPlaceholder extends Placeholder {
+
+    /**
+     * Returns how many times a value has been served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    long hits();
+
+    /**
+     * Returns how many times the value of the underlying {@link Placeholder} had to be evaluated because it was not
+     * cached or had expired.
+     *
+     * @return the number of cache misses
+     */
+    long misses();
+
+    /**
+     * Returns the number of cached values. This may include expired values that have not been evicted yet.
+     *
+     * @return the number of cached values
+     */
+    int size();
+
+    /**
+     * Removes all cached values.
+     */
+    void invalidateAll();
+
+    /**
+     * Removes all cached values with the given key.
+     *
+     * @param key the key as returned by the {@link Placeholder.CacheKeyFunction}
+     */
+    void invalidate(@NotNull Object key);
+}
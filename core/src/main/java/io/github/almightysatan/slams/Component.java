@@ -24,6 +24,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -67,6 +68,21 @@ public interface Component<T> {
         consumer.accept(this.stringValue(placeholderResolver, contexts));
     }
 
+    /**
+     * Appends the value of this {@link Component} as a string to the given {@link Appendable}. Implementations that
+     * consist of multiple parts should write each part directly instead of building an intermediate string. Placeholders
+     * can return a {@link Component} that overrides this method to write their value directly.
+     *
+     * @param placeholderResolver the local {@link PlaceholderResolver}
+     * @param contexts            the contexts
+     * @param appendable          the {@link Appendable}
+     * @throws IOException if the {@link Appendable} throws an {@link IOException}
+     */
+    default void writeTo(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts,
+            @NotNull Appendable appendable) throws IOException {
+        appendable.append(this.stringValue(placeholderResolver, contexts));
+    }
+
     /**
      * Creates a new {@link Component} of type string with the same value as {@link #stringValue(PlaceholderResolver, Object[])}
      *
@@ -176,8 +192,7 @@ public interface Component<T> {
         }
         
         default @NotNull Placeholder.ProcessedPlaceholder<T> processedPlaceholder(@NotNull String input, @Nullable Object raw) {
-            Component<T> component = this.component(input, raw);
-            return (contexts, arguments, factory) -> component;
+            return Placeholder.ProcessedPlaceholder.constant(this.component(input, raw));
         }
 
         default @NotNull Placeholder.ProcessedPlaceholder<T> processedPlaceholder(@NotNull String input) {
@@ -0,0 +1,57 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Looks up contexts by type.
+ */
+public interface Contexts {
+
+    /**
+     * Returns the first context that is an instance of the given type or {@code null} if no such context exists.
+     *
+     * @param contexts the contexts
+     * @param type     class of the context type
+     * @param <T>      the context type
+     * @return the context or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @Nullable T find(@NotNull Object @NotNull [] contexts, @NotNull Class<T> type) {
+        for (Object context : contexts)
+            if (type.isInstance(context))
+                return (T) context;
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if any of the contexts is an instance of the given type.
+     *
+     * @param contexts the contexts
+     * @param type     class of the context type
+     * @return whether a context of the given type exists
+     */
+    static boolean has(@NotNull Object @NotNull [] contexts, @NotNull Class<?> type) {
+        return find(contexts, type) != null;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An {@link Instrumentation} that records events and timings in memory. The returned maps are snapshots and can be
+ * exported to any monitoring system.
+ */
+public interface InMemoryInstrumentation extends Instrumentation {
+
+    /**
+     * Returns the render timings of all messages mapped to their paths.
+     *
+     * @return the render timings
+     */
+    @NotNull @Unmodifiable Map<@NotNull String, @NotNull Histogram> renders();
+
+    /**
+     * Returns how often each placeholder could not be resolved mapped to the placeholder's key.
+     *
+     * @return the number of misses
+     */
+    @NotNull @Unmodifiable Map<@NotNull String, @NotNull Long> placeholderMisses();
+
+    /**
+     * Returns how often a translation was missing mapped to the language's identifier.
+     *
+     * @return the number of missing translations
+     */
+    @NotNull @Unmodifiable Map<@NotNull String, @NotNull Long> missingTranslations();
+
+    /**
+     * Returns the load timings of the {@link LanguageParser LanguageParsers} of each language mapped to the language's
+     * identifier. The list contains a {@link Histogram} for each parser in the same order as the parsers.
+     *
+     * @return the parser timings
+     */
+    @NotNull @Unmodifiable Map<@NotNull String, @NotNull @Unmodifiable List<@NotNull Histogram>> parserLoads();
+
+    /**
+     * Returns the compile timings of all languages mapped to the language's identifier.
+     *
+     * @return the compile timings
+     */
+    @NotNull @Unmodifiable Map<@NotNull String, @NotNull Histogram> compiles();
+
+    /**
+     * Removes all recorded events.
+     */
+    void reset();
+
+    /**
+     * A histogram of durations. Values are recorded in buckets whose upper bounds are powers of two, percentiles are
+     * therefore approximations.
+     */
+    interface Histogram {
+
+        /**
+         * Returns the number of recorded values.
+         *
+         * @return the number of recorded values
+         */
+        long count();
+
+        /**
+         * Returns the sum of all recorded values in nanoseconds.
+         *
+         * @return the sum of all recorded values
+         */
+        long total();
+
+        /**
+         * Returns the smallest recorded value in nanoseconds or {@code 0} if no values have been recorded.
+         *
+         * @return the smallest recorded value
+         */
+        long min();
+
+        /**
+         * Returns the largest recorded value in nanoseconds or {@code 0} if no values have been recorded.
+         *
+         * @return the largest recorded value
+         */
+        long max();
+
+        /**
+         * Returns the mean of all recorded values in nanoseconds or {@code 0} if no values have been recorded.
+         *
+         * @return the mean
+         */
+        default double mean() {
+            long count = this.count();
+            return count == 0 ? 0 : (double) this.total() / count;
+        }
+
+        /**
+         * Returns an upper bound of the given percentile in nanoseconds or {@code 0} if no values have been recorded.
+         *
+         * @param percentile the percentile between 0 and 100
+         * @return the value at the given percentile
+         */
+        long percentile(double percentile);
+
+        /**
+         * Returns the number of values recorded in each bucket. The bucket at index {@code i} contains values between
+         * {@code 2^(i-1)} (inclusive, {@code 0} for the first bucket) and {@code 2^i} (exclusive).
+         *
+         * @return the number of values in each bucket
+         */
+        long @NotNull [] buckets();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import io.github.almightysatan.slams.impl.InMemoryInstrumentationImpl;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives events and timings from a {@link Slams} instance. All methods do nothing by default, implementations only
+ * have to override the methods they are interested in. Methods may be called concurrently from multiple threads and
+ * should return quickly.
+ *
+ * @see Slams#of(String, Instrumentation)
+ */
+public interface Instrumentation {
+
+    Instrumentation NOOP = new Instrumentation() {};
+
+    /**
+     * Called after a message has been rendered via {@link Message#value(String, PlaceholderResolver, Object...)}.
+     *
+     * @param path  the path of the message
+     * @param nanos the time it took to render the message in nanoseconds
+     */
+    default void render(@NotNull String path, long nanos) {
+    }
+
+    /**
+     * Called if a placeholder could not be resolved while rendering a message.
+     *
+     * @param key the placeholder's key
+     */
+    default void placeholderMiss(@NotNull String key) {
+    }
+
+    /**
+     * Called before a {@link MissingTranslationException} is thrown because a message has no translation in a language.
+     *
+     * @param language the identifier of the language
+     * @param path     the path of the message
+     */
+    default void missingTranslation(@NotNull String language, @NotNull String path) {
+    }
+
+    /**
+     * Called after a {@link LanguageParser} has loaded its values.
+     *
+     * @param language the identifier of the language
+     * @param index    the index of the parser in the language's list of parsers
+     * @param parser   the parser
+     * @param nanos    the time it took to load the values in nanoseconds
+     */
+    default void parserLoad(@NotNull String language, int index, @NotNull LanguageParser parser, long nanos) {
+    }
+
+    /**
+     * Called after the {@link Translation Translations} of a language have been created.
+     *
+     * @param language the identifier of the language
+     * @param messages the number of messages
+     * @param nanos    the time it took to create all {@link Translation Translations} in nanoseconds
+     */
+    default void compile(@NotNull String language, int messages, long nanos) {
+    }
+
+    /**
+     * Returns an {@link Instrumentation} that ignores all events. {@link Slams} does not measure any timings if this
+     * {@link Instrumentation} is used.
+     *
+     * @return an {@link Instrumentation} that ignores all events
+     */
+    static @NotNull Instrumentation noop() {
+        return NOOP;
+    }
+
+    /**
+     * Returns a new {@link InMemoryInstrumentation} that records all events in memory.
+     *
+     * @return a new {@link InMemoryInstrumentation}
+     */
+    static @NotNull InMemoryInstrumentation inMemory() {
+        return new InMemoryInstrumentationImpl();
+    }
+}
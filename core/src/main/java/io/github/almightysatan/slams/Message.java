@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a message. The value of a message is not necessarily a {@link String}. It could be a multidimensional
@@ -61,6 +62,50 @@ public interface Message<T> {
      */
     @NotNull T value(@Nullable String language, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException;
 
+    /**
+     * Replaces placeholders without blocking on {@link Placeholder#async async placeholders}. Uses the given language.
+     *
+     * @param language            the language identifier
+     * @param placeholderResolver a {@link PlaceholderResolver} with additional {@link Placeholder Placeholders}
+     * @param contexts            the contexts supplied to this message
+     * @return a future that completes with the value
+     * @throws UnknownLanguageException    if the language can not be found
+     * @throws MissingTranslationException if the language has no translation for this message
+     * @see Translation#valueAsync(PlaceholderResolver, Object...)
+     */
+    default @NotNull CompletableFuture<T> valueAsync(@Nullable String language, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        return this.translate(language, contexts).valueAsync(placeholderResolver, contexts);
+    }
+
+    /**
+     * Replaces placeholders without blocking on {@link Placeholder#async async placeholders}. Uses the default
+     * language.
+     *
+     * @param placeholderResolver a {@link PlaceholderResolver} with additional {@link Placeholder Placeholders}
+     * @param contexts            the contexts supplied to this message
+     * @return a future that completes with the value
+     * @throws UnknownLanguageException    if the language can not be found
+     * @throws MissingTranslationException if the language has no translation for this message
+     * @see Translation#valueAsync(PlaceholderResolver, Object...)
+     */
+    default @NotNull CompletableFuture<T> valueAsync(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        return this.valueAsync(null, placeholderResolver, contexts);
+    }
+
+    /**
+     * Replaces placeholders without blocking on {@link Placeholder#async async placeholders}. Uses the default
+     * language.
+     *
+     * @param contexts the contexts supplied to this message
+     * @return a future that completes with the value
+     * @throws UnknownLanguageException    if the language can not be found
+     * @throws MissingTranslationException if the language has no translation for this message
+     * @see Translation#valueAsync(PlaceholderResolver, Object...)
+     */
+    default @NotNull CompletableFuture<T> valueAsync(@NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        return this.valueAsync(null, PlaceholderResolver.empty(), contexts);
+    }
+
     /**
      * Replaces placeholders and returns the resulting value. Uses the default language.
      *
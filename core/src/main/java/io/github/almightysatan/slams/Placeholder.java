@@ -20,13 +20,19 @@
 
 package io.github.almightysatan.slams;
 
+import io.github.almightysatan.slams.impl.AsyncRender;
+import io.github.almightysatan.slams.impl.CachedPlaceholderImpl;
 import io.github.almightysatan.slams.impl.LazyEvalList;
+import io.github.almightysatan.slams.impl.PartialEvaluation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
@@ -58,7 +64,8 @@ public interface Placeholder extends PlaceholderResolver {
     boolean constexpr();
 
     /**
-     * Evaluates the value of the placeholder using the given contexts and arguments.
+     * Evaluates the value of the placeholder using the given contexts and arguments. The arguments are only valid until
+     * the returned {@link Component} has been evaluated, see {@link Argument}.
      *
      * @param contexts  the contexts provided to the message
      * @param arguments the placeholder's arguments
@@ -118,7 +125,7 @@ public interface Placeholder extends PlaceholderResolver {
 
             @Override
             public @NotNull <T> Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments, Component.@NotNull ValueFactory<T> factory) {
-                List<String> list = new LazyEvalList<>(Argument::stringValue, arguments);
+                List<String> list = arguments.isEmpty() ? Collections.emptyList() : new LazyEvalList<>(Argument::stringValue, arguments);
                 Object raw = valueFunction.value(contexts, list);
                 return factory.component(String.valueOf(raw), raw);
             }
@@ -183,6 +190,94 @@ public interface Placeholder extends PlaceholderResolver {
         return of(key, true, (contexts, args) -> value);
     }
 
+    /**
+     * Returns a new {@link Placeholder} whose value is computed asynchronously, e.g. by querying a database. When a
+     * message is rendered via {@link Translation#valueAsync(PlaceholderResolver, Object...)}, the futures of all async
+     * placeholders in the message are started concurrently and the rendered value is completed once all of them have
+     * completed. A synchronous render never blocks. It uses the future's value if the future has already completed,
+     * e.g. because the value function returns cached futures, and throws an {@link IllegalStateException} otherwise.
+     * <p>
+     * The arguments are passed as strings that have been evaluated before the future is started. Placeholders with
+     * the same contexts and arguments are only evaluated once per render.
+     *
+     * @param key           the placeholder's key
+     * @param valueFunction a function that starts the evaluation of this placeholder's value
+     * @return a new placeholder
+     */
+    static @NotNull Placeholder async(@NotNull String key, @NotNull AsyncValueFunction valueFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(valueFunction);
+        return new Placeholder() {
+            @Override
+            public @NotNull String key() {
+                return key;
+            }
+
+            @Override
+            public boolean constexpr() {
+                return false;
+            }
+
+            @Override
+            public @NotNull <T> Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments, Component.@NotNull ValueFactory<T> factory) {
+                Object raw = AsyncRender.value(this, valueFunction, contexts, arguments);
+                if (raw == null)
+                    return factory.component(""); // pending, this round's value is discarded
+                return factory.component(String.valueOf(raw), raw);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link CachedPlaceholder} that caches the values of the given {@link Placeholder} for the given amount
+     * of time. Values are cached per key returned by {@code keyFunction} (e.g. a player's UUID) and arguments. Values
+     * are not cached if {@code keyFunction} returns {@code null}. Up to {@code maximumSize} values are cached, if the
+     * cache is full expired values and then the values that were cached first are evicted. Values that depend on an
+     * {@link #async async placeholder} are only cached once its future has completed.
+     *
+     * @param placeholder the placeholder
+     * @param ttl         how long a value is cached
+     * @param keyFunction a function that derives the cache key from the contexts
+     * @param maximumSize the maximum number of cached values
+     * @return a new placeholder
+     */
+    static @NotNull CachedPlaceholder cached(@NotNull Placeholder placeholder, @NotNull Duration ttl, @NotNull CacheKeyFunction keyFunction, int maximumSize) {
+        Objects.requireNonNull(placeholder);
+        Objects.requireNonNull(keyFunction);
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("Duration should be positive");
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size should be positive");
+        return new CachedPlaceholderImpl(placeholder, ttl.toNanos(), keyFunction, maximumSize);
+    }
+
+    /**
+     * Returns a {@link CachedPlaceholder} that caches up to 1024 values of the given {@link Placeholder} for the given
+     * amount of time. Values are cached per key returned by {@code keyFunction} (e.g. a player's UUID) and arguments.
+     * Values are not cached if {@code keyFunction} returns {@code null}.
+     *
+     * @param placeholder the placeholder
+     * @param ttl         how long a value is cached
+     * @param keyFunction a function that derives the cache key from the contexts
+     * @return a new placeholder
+     */
+    static @NotNull CachedPlaceholder cached(@NotNull Placeholder placeholder, @NotNull Duration ttl, @NotNull CacheKeyFunction keyFunction) {
+        return cached(placeholder, ttl, keyFunction, 1024);
+    }
+
+    /**
+     * Returns a {@link CachedPlaceholder} that caches the values of the given {@link Placeholder} for the given amount
+     * of time. The contexts are ignored, values are only cached per arguments. This is useful for placeholders that
+     * do not depend on any context, e.g. the number of online players.
+     *
+     * @param placeholder the placeholder
+     * @param ttl         how long a value is cached
+     * @return a new placeholder
+     */
+    static @NotNull CachedPlaceholder cached(@NotNull Placeholder placeholder, @NotNull Duration ttl) {
+        return cached(placeholder, ttl, contexts -> Boolean.TRUE);
+    }
+
     /**
      * Returns a new {@link Placeholder}. If a context of the given type exists, {@code contextValueFunction} will be
      * used to evaluate the value. Otherwise {@code fallbackValueFunction} will be
@@ -195,15 +290,14 @@ public interface Placeholder extends PlaceholderResolver {
      * @param <T>                   the context type
      * @return a new placeholder
      */
-    @SuppressWarnings("unchecked")
     static <T> @NotNull Placeholder contextual(@NotNull String key, @NotNull Class<T> type, @NotNull ContextValueFunction<T> contextValueFunction, @NotNull ValueFunction fallbackValueFunction) {
         Objects.requireNonNull(type);
         Objects.requireNonNull(contextValueFunction);
         Objects.requireNonNull(fallbackValueFunction);
         return of(key, false, (contexts, arguments) -> {
-            for (Object c : contexts)
-                if (type.isAssignableFrom(c.getClass()))
-                    return contextValueFunction.value((T) c, arguments);
+            T context = Contexts.find(contexts, type);
+            if (context != null)
+                return contextValueFunction.value(context, arguments);
             return fallbackValueFunction.value(contexts, arguments);
         });
     }
@@ -313,17 +407,16 @@ public interface Placeholder extends PlaceholderResolver {
                 return false;
             }
 
-            @SuppressWarnings("unchecked")
             @Override
             public @NotNull <U> Component<U> value(@NotNull Object @NotNull [] contexts,
                     @Unmodifiable @NotNull List<@NotNull Argument<U>> arguments, Component.@NotNull ValueFactory<U> factory) {
-                for (Object context : contexts)
-                    if (type.isAssignableFrom(context.getClass())) {
-                        if (predicate.test((T) context))
-                            return !arguments.isEmpty() ? arguments.get(0) : factory.component("");
-                        return arguments.size() > 1 ? arguments.get(1) : factory.component("");
-                    }
-                List<String> list = new LazyEvalList<>(Argument::stringValue, arguments);
+                T context = Contexts.find(contexts, type);
+                if (context != null) {
+                    if (predicate.test(context))
+                        return !arguments.isEmpty() ? arguments.get(0) : factory.component("");
+                    return arguments.size() > 1 ? arguments.get(1) : factory.component("");
+                }
+                List<String> list = arguments.isEmpty() ? Collections.emptyList() : new LazyEvalList<>(Argument::stringValue, arguments);
                 Object raw = fallbackValueFunction.value(contexts, list);
                 return factory.component(String.valueOf(raw), raw);
             }
@@ -433,9 +526,40 @@ public interface Placeholder extends PlaceholderResolver {
                     return arguments.get(2);
                 return arguments.size() > 3 ? arguments.get(3) : factory.component("");
             }
+
+            @Override
+            public <T> @Nullable ProcessedPlaceholder<T> processArguments(@Unmodifiable @NotNull List<@Nullable Argument<T>> arguments,
+                    @NotNull Component.ValueFactory<T> factory) {
+                if (arguments.size() != 3 && arguments.size() != 4)
+                    return factory.processedPlaceholder(INVALID_ARGUMENTS);
+
+                String arg0 = arguments.get(0) != null ? arguments.get(0).stringValue() : null;
+                String arg1 = arguments.get(1) != null ? arguments.get(1).stringValue() : null;
+                if (arg0 != null && arg1 != null) {
+                    if (comparisonFunction.value(arg0, arg1))
+                        return ProcessedPlaceholder.argument(2);
+                    return arguments.size() > 3 ? ProcessedPlaceholder.argument(3) : factory.processedPlaceholder("");
+                }
+
+                return (contexts0, arguments0, factory0) -> {
+                    String a0 = arg0 != null ? arg0 : arguments0.get(0).stringValue();
+                    String a1 = arg1 != null ? arg1 : arguments0.get(1).stringValue();
+                    if (comparisonFunction.value(a0, a1))
+                        return arguments0.get(2);
+                    return arguments0.size() > 3 ? arguments0.get(3) : factory0.component("");
+                };
+            }
         };
     }
 
+    /**
+     * A representation of a {@link Placeholder} where some arguments have been processed. See
+     * {@link #processArguments(List, Component.ValueFactory)}. Implementations may replace a
+     * {@link ProcessedPlaceholder} created by {@link #constant(Component)} or {@link #argument(int)} with its result
+     * when the message is loaded.
+     *
+     * @param <T> the result type
+     */
     @FunctionalInterface
     interface ProcessedPlaceholder<T> {
 
@@ -449,8 +573,45 @@ public interface Placeholder extends PlaceholderResolver {
          */
         @NotNull Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments,
                 @NotNull Component.ValueFactory<T> factory);
+
+        /**
+         * Returns a {@link ProcessedPlaceholder} that always returns the given {@link Component}. The
+         * {@link Component} should not depend on any contexts.
+         *
+         * @param component the {@link Component}
+         * @param <T>       the result type
+         * @return a new {@link ProcessedPlaceholder}
+         */
+        static <T> @NotNull ProcessedPlaceholder<T> constant(@NotNull Component<T> component) {
+            return new PartialEvaluation.Constant<>(component);
+        }
+
+        /**
+         * Returns a {@link ProcessedPlaceholder} that always returns the argument at the given index, e.g. the
+         * selected branch of a conditional placeholder.
+         *
+         * @param index the index of the argument
+         * @param <T>   the result type
+         * @return a new {@link ProcessedPlaceholder}
+         */
+        static <T> @NotNull ProcessedPlaceholder<T> argument(int index) {
+            return new PartialEvaluation.Selection<>(index);
+        }
     }
 
+    /**
+     * An argument of a {@link Placeholder}. Arguments are evaluated lazily in the contexts of the message that is being
+     * rendered.
+     * <p>
+     * The list of arguments passed to {@link Placeholder#value(Object[], List, Component.ValueFactory)} and its
+     * arguments may be reused for other placeholders once the {@link Component} returned by that call has been
+     * evaluated. An argument must therefore not be stored or used afterwards, neither directly nor by a lazy
+     * {@link Component} that is kept beyond that point, e.g. in a cache or by a task running on another thread. Doing
+     * so may fail or return the value of an argument of another placeholder. Call {@link #value()},
+     * {@link #stringValue()} or {@link #rawValue()} and keep the result instead.
+     *
+     * @param <T> the type of the argument's value
+     */
     interface Argument<T> extends Component<T> {
 
         @NotNull T value();
@@ -525,6 +686,16 @@ public interface Placeholder extends PlaceholderResolver {
         }
     }
 
+    @FunctionalInterface
+    interface AsyncValueFunction {
+        @NotNull CompletableFuture<?> value(@NotNull Object @NotNull [] contexts, @NotNull List<@NotNull String> arguments);
+    }
+
+    @FunctionalInterface
+    interface CacheKeyFunction {
+        @Nullable Object key(@NotNull Object @NotNull [] contexts);
+    }
+
     @FunctionalInterface
     interface ComparisonFunction {
         boolean value(@NotNull String argument0, @NotNull String argument1);
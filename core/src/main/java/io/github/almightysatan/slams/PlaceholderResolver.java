@@ -20,13 +20,19 @@
 
 package io.github.almightysatan.slams;
 
+import io.github.almightysatan.slams.impl.ChainedPlaceholderResolver;
+import io.github.almightysatan.slams.impl.CompiledPlaceholderResolver;
+import io.github.almightysatan.slams.impl.DateFormatPlaceholder;
+import io.github.almightysatan.slams.impl.MapPlaceholderResolver;
+import io.github.almightysatan.slams.impl.Numbers;
+import io.github.almightysatan.slams.impl.PartialEvaluation;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.math.BigDecimal;
-import java.text.SimpleDateFormat;
+import java.time.Clock;
 import java.util.*;
 import java.util.function.*;
 
@@ -68,8 +74,7 @@ public interface PlaceholderResolver {
      * @return a new {@link PlaceholderResolver}
      */
     static @NotNull PlaceholderResolver of(@NotNull Placeholder placeholder) {
-        Objects.requireNonNull(placeholder);
-        return key -> key.equals(placeholder.key()) ? placeholder : null;
+        return new MapPlaceholderResolver(Collections.singletonMap(Objects.requireNonNull(placeholder.key()), placeholder), true);
     }
 
     /**
@@ -95,14 +100,7 @@ public interface PlaceholderResolver {
     static @NotNull PlaceholderResolver of(@NotNull PlaceholderResolver @NotNull ... placeholderResolvers) {
         if (placeholderResolvers.length == 0)
             return empty();
-        return key -> {
-            for (PlaceholderResolver placeholderResolver : placeholderResolvers) {
-                Placeholder placeholder = placeholderResolver.resolve(key);
-                if (placeholder != null)
-                    return placeholder;
-            }
-            return null;
-        };
+        return new ChainedPlaceholderResolver(placeholderResolvers);
     }
 
     /**
@@ -117,6 +115,35 @@ public interface PlaceholderResolver {
         return of(placeholderResolvers.toArray(new PlaceholderResolver[0]));
     }
 
+    /**
+     * Returns a {@link PlaceholderResolver} that resolves the same {@link Placeholder Placeholders} as
+     * {@link #of(PlaceholderResolver...)} but is optimized for repeated lookups. Nested and chained
+     * {@link PlaceholderResolver PlaceholderResolvers} created by {@link #builder()} or {@code of(...)} (including
+     * all {@link Builder#namespace namespaces}) are flattened into a single immutable lookup table. Results of any
+     * other {@link PlaceholderResolver PlaceholderResolvers} are cached, including lookups that did not resolve a
+     * {@link Placeholder}.
+     * <p>
+     * The returned {@link PlaceholderResolver} is a snapshot. {@link Placeholder Placeholders} added to a
+     * {@link Builder} after this method has been called are not visible.
+     *
+     * @param placeholderResolvers an array of {@link PlaceholderResolver PlaceholderResolvers}
+     * @return a new {@link PlaceholderResolver}
+     */
+    static @NotNull PlaceholderResolver compile(@NotNull PlaceholderResolver @NotNull ... placeholderResolvers) {
+        return CompiledPlaceholderResolver.compile(placeholderResolvers);
+    }
+
+    /**
+     * Returns a {@link PlaceholderResolver} that resolves the same {@link Placeholder Placeholders} as
+     * {@link #of(List)} but is optimized for repeated lookups. See {@link #compile(PlaceholderResolver...)}.
+     *
+     * @param placeholderResolvers a list of {@link PlaceholderResolver PlaceholderResolvers}
+     * @return a new {@link PlaceholderResolver}
+     */
+    static @NotNull PlaceholderResolver compile(@NotNull List<@NotNull PlaceholderResolver> placeholderResolvers) {
+        return compile(placeholderResolvers.toArray(new PlaceholderResolver[0]));
+    }
+
     /**
      * Returns a {@link PlaceholderResolver} containing some built-in placeholders, including, but no limited to
      * <ul>
@@ -151,7 +178,7 @@ public interface PlaceholderResolver {
 
             @Override
             public @NotNull PlaceholderResolver build() {
-                return this.placeholderMap::get;
+                return new MapPlaceholderResolver(this.placeholderMap, false);
             }
 
             @Override
@@ -275,6 +302,18 @@ public interface PlaceholderResolver {
             return this.add(Placeholder.constant(key, value));
         }
 
+        /**
+         * Adds a new placeholder whose value is computed asynchronously.
+         *
+         * @param key           the placeholder's key
+         * @param valueFunction a function that starts the evaluation of this placeholder's value
+         * @return this {@link Builder}
+         * @see Placeholder#async(String, Placeholder.AsyncValueFunction)
+         */
+        default @NotNull Builder async(@NotNull String key, @NotNull Placeholder.AsyncValueFunction valueFunction) {
+            return this.add(Placeholder.async(key, valueFunction));
+        }
+
         /**
          * Adds a new {@link Placeholder}. If the context is not {@code null} and of the given type,
          * {@code contextValueFunction} will be used to evaluate the value. Otherwise {@code fallbackValueFunction} will be
@@ -408,10 +447,9 @@ public interface PlaceholderResolver {
                         @Override
                         public @NotNull <V> Component<V> value(@NotNull Object @NotNull [] contexts,
                                 @Unmodifiable @NotNull List<@NotNull Argument<V>> arguments, Component.@NotNull ValueFactory<V> factory) {
-                            if (arguments.size() >= numArgs)
-                                for (Object context : contexts)
-                                    if (type.isAssignableFrom(context.getClass()))
-                                        return placeholder.value(new Object[]{conversion.apply((T) context, (List<Component<U>>) (Object) arguments)}, arguments.subList(numArgs, arguments.size()), factory);
+                            T context;
+                            if (arguments.size() >= numArgs && (context = Contexts.find(contexts, type)) != null)
+                                return placeholder.value(new Object[]{conversion.apply(context, (List<Component<U>>) (Object) arguments)}, arguments.subList(numArgs, arguments.size()), factory);
                             return placeholder.value(new Object[0], arguments, factory);
                         }
 
@@ -420,8 +458,16 @@ public interface PlaceholderResolver {
                             ProcessedPlaceholder<V> resolved = placeholder.processArguments(arguments.subList(numArgs, arguments.size()), factory);
                             if (resolved == null)
                                 return null;
-                            return ((contexts, arguments0, factory0) ->
-                                    resolved.value(new Object[]{conversion.apply((T) contexts, (List<Component<U>>) (Object) arguments0)}, arguments0.subList(numArgs, arguments0.size()), factory0));
+                            if (resolved instanceof PartialEvaluation.Constant)
+                                return resolved;
+                            if (resolved instanceof PartialEvaluation.Selection)
+                                return ProcessedPlaceholder.argument(((PartialEvaluation.Selection<V>) resolved).index() + numArgs);
+                            return ((contexts, arguments0, factory0) -> {
+                                T context;
+                                if (arguments0.size() >= numArgs && (context = Contexts.find(contexts, type)) != null)
+                                    return resolved.value(new Object[]{conversion.apply(context, (List<Component<U>>) (Object) arguments0)}, arguments0.subList(numArgs, arguments0.size()), factory0);
+                                return placeholder.value(new Object[0], arguments0, factory0);
+                            });
                         }
                     });
                     return this;
@@ -533,7 +579,20 @@ public interface PlaceholderResolver {
          * @return this {@link Builder}
          */
         default @NotNull Builder builtIn() {
-            BiFunction<String, BiFunction<BigDecimal, BigDecimal, Boolean>, Placeholder> numberComparison = (key, fun) ->
+            return this.builtIn(Clock.systemDefaultZone());
+        }
+
+        /**
+         * Adds built-in placeholders. See {@link #builtIn()}. The given {@link Clock} is used by placeholders that
+         * depend on the current time (e.g. sdf).
+         *
+         * @param clock the {@link Clock}
+         * @return this {@link Builder}
+         */
+        default @NotNull Builder builtIn(@NotNull Clock clock) {
+            Objects.requireNonNull(clock);
+            // Operands are parsed using Numbers, constant operands are only parsed once in processArguments
+            BiFunction<String, IntPredicate, Placeholder> numberComparison = (key, fun) ->
                     new Placeholder() {
                         @Override
                         public @NotNull String key() {
@@ -551,7 +610,7 @@ public interface PlaceholderResolver {
                             if (arguments.size() != 3 && arguments.size() != 4)
                                 return factory.component(INVALID_ARGUMENTS);
                             try {
-                                if (fun.apply(new BigDecimal(arguments.get(0).stringValue()), new BigDecimal(arguments.get(1).stringValue())))
+                                if (fun.test(Numbers.compare(Numbers.operand(arguments.get(0)), Numbers.operand(arguments.get(1)))))
                                     return arguments.get(2);
                                 return arguments.size() > 3 ? arguments.get(3) : factory.component("");
                             } catch (NumberFormatException e) {
@@ -566,14 +625,19 @@ public interface PlaceholderResolver {
                                 return factory.processedPlaceholder(INVALID_ARGUMENTS);
                             
                             try {
-                                BigDecimal arg0 = arguments.get(0) != null ? new BigDecimal(arguments.get(0).stringValue()) : null;
-                                BigDecimal arg1 = arguments.get(1) != null ? new BigDecimal(arguments.get(1).stringValue()) : null;
+                                Number arg0 = arguments.get(0) != null ? Numbers.operand(arguments.get(0)) : null;
+                                Number arg1 = arguments.get(1) != null ? Numbers.operand(arguments.get(1)) : null;
+                                if (arg0 != null && arg1 != null) {
+                                    if (fun.test(Numbers.compare(arg0, arg1)))
+                                        return ProcessedPlaceholder.argument(2);
+                                    return arguments.size() > 3 ? ProcessedPlaceholder.argument(3) : factory.processedPlaceholder("");
+                                }
 
                                 return (contexts0, arguments0, factory0) -> {
                                     try {
-                                        BigDecimal a0 = arg0 != null ? arg0 : new BigDecimal(arguments0.get(0).stringValue());
-                                        BigDecimal a1 = arg1 != null ? arg1 : new BigDecimal(arguments0.get(1).stringValue());
-                                        if (fun.apply(a0, a1))
+                                        Number a0 = arg0 != null ? arg0 : Numbers.operand(arguments0.get(0));
+                                        Number a1 = arg1 != null ? arg1 : Numbers.operand(arguments0.get(1));
+                                        if (fun.test(Numbers.compare(a0, a1)))
                                             return arguments0.get(2);
                                         return arguments0.size() > 3 ? arguments0.get(3) : factory0.component("");
                                     } catch (NumberFormatException e) {
@@ -586,7 +650,7 @@ public interface PlaceholderResolver {
                         }
                     };
 
-            BiFunction<String, BiFunction<BigDecimal, BigDecimal, BigDecimal>, Placeholder> numberOperation = (key, fun) ->
+            BiFunction<LongBinaryOperator, BinaryOperator<BigDecimal>, Function<String, Placeholder>> numberOperation = (exact, fun) -> key ->
                     new Placeholder() {
                         @Override
                         public @NotNull String key() {
@@ -604,8 +668,7 @@ public interface PlaceholderResolver {
                             if (arguments.size() != 2)
                                 return factory.component(INVALID_ARGUMENTS);
                             try {
-                                return factory.component(fun.apply(new BigDecimal(arguments.get(0).stringValue()),
-                                        new BigDecimal(arguments.get(1).stringValue())).toPlainString());
+                                return factory.component(Numbers.apply(Numbers.operand(arguments.get(0)), Numbers.operand(arguments.get(1)), exact, fun));
                             } catch (NumberFormatException e) {
                                 return factory.component(Placeholder.INVALID_ARGUMENTS);
                             }
@@ -617,14 +680,14 @@ public interface PlaceholderResolver {
                                 return factory.processedPlaceholder(INVALID_ARGUMENTS);
 
                             try {
-                                BigDecimal arg0 = arguments.get(0) != null ? new BigDecimal(arguments.get(0).stringValue()) : null;
-                                BigDecimal arg1 = arguments.get(1) != null ? new BigDecimal(arguments.get(1).stringValue()) : null;
+                                Number arg0 = arguments.get(0) != null ? Numbers.operand(arguments.get(0)) : null;
+                                Number arg1 = arguments.get(1) != null ? Numbers.operand(arguments.get(1)) : null;
 
                                 return (contexts0, arguments0, factory0) -> {
                                     try {
-                                        BigDecimal a0 = arg0 != null ? arg0 : new BigDecimal(arguments0.get(0).stringValue());
-                                        BigDecimal a1 = arg1 != null ? arg1 : new BigDecimal(arguments0.get(1).stringValue());
-                                        return factory.component(fun.apply(a0, a1).toPlainString());
+                                        Number a0 = arg0 != null ? arg0 : Numbers.operand(arguments0.get(0));
+                                        Number a1 = arg1 != null ? arg1 : Numbers.operand(arguments0.get(1));
+                                        return factory0.component(Numbers.apply(a0, a1, exact, fun));
                                     } catch (NumberFormatException e) {
                                         return factory0.component(INVALID_ARGUMENTS);
                                     }
@@ -638,27 +701,19 @@ public interface PlaceholderResolver {
             this.add(Placeholder.comparison("if_eq", String::equals));
             this.add(Placeholder.comparison("if_ne", (arg0, arg1) -> !arg0.equals(arg1)));
 
-            this.add(numberComparison.apply("if_num_eq", (arg0, arg1) -> arg0.compareTo(arg1) == 0));
-            this.add(numberComparison.apply("if_num_ne", (arg0, arg1) -> arg0.compareTo(arg1) != 0));
-            this.add(numberComparison.apply("if_num_lt", (arg0, arg1) -> arg0.compareTo(arg1) < 0));
-            this.add(numberComparison.apply("if_num_gt", (arg0, arg1) -> arg0.compareTo(arg1) > 0));
-            this.add(numberComparison.apply("if_num_le", (arg0, arg1) -> arg0.compareTo(arg1) <= 0));
-            this.add(numberComparison.apply("if_num_ge", (arg0, arg1) -> arg0.compareTo(arg1) >= 0));
-
-            this.add(numberOperation.apply("add", BigDecimal::add));
-            this.add(numberOperation.apply("sub", BigDecimal::subtract));
-            this.add(numberOperation.apply("mul", BigDecimal::multiply));
-            this.add(numberOperation.apply("div", BigDecimal::divide));
-
-            this.add(Placeholder.withArgs("sdf", args -> {
-                if (args.size() != 1)
-                    return Placeholder.INVALID_FORMAT;
-                try {
-                    return new SimpleDateFormat(args.get(0)).format(new Date());
-                } catch (IllegalArgumentException e) {
-                    return Placeholder.INVALID_FORMAT;
-                }
-            }));
+            this.add(numberComparison.apply("if_num_eq", result -> result == 0));
+            this.add(numberComparison.apply("if_num_ne", result -> result != 0));
+            this.add(numberComparison.apply("if_num_lt", result -> result < 0));
+            this.add(numberComparison.apply("if_num_gt", result -> result > 0));
+            this.add(numberComparison.apply("if_num_le", result -> result <= 0));
+            this.add(numberComparison.apply("if_num_ge", result -> result >= 0));
+
+            this.add(numberOperation.apply(Math::addExact, BigDecimal::add).apply("add"));
+            this.add(numberOperation.apply(Math::subtractExact, BigDecimal::subtract).apply("sub"));
+            this.add(numberOperation.apply(Math::multiplyExact, BigDecimal::multiply).apply("mul"));
+            this.add(numberOperation.apply(Numbers::divideExact, BigDecimal::divide).apply("div"));
+
+            this.add(new DateFormatPlaceholder("sdf", clock));
             return this;
         }
     }
@@ -0,0 +1,87 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import io.github.almightysatan.slams.impl.PlaceholderSchemaImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * Declares the local {@link Placeholder Placeholders} of a message up front. Each key is assigned a slot (its index
+ * in {@link #keys()}). Messages created with a schema bind their local placeholders to these slots when they are
+ * loaded and reject any placeholder that is neither declared by the schema nor resolved by the message's
+ * {@link PlaceholderResolver}. Values are then passed positionally using {@link #bind(Object...)}, which avoids
+ * looking up every placeholder by its key whenever the message is rendered.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * PlaceholderSchema schema = PlaceholderSchema.of("name", "coins");
+ * StandaloneMessage message = StandaloneMessage.of("balance", slams, PlaceholderResolver.empty(), schema);
+ * message.value(schema.bind(player.getName(), player.getCoins()));
+ * }</pre>
+ */
+public interface PlaceholderSchema {
+
+    /**
+     * Returns the declared keys in slot order.
+     *
+     * @return the declared keys
+     */
+    @NotNull @Unmodifiable List<@NotNull String> keys();
+
+    /**
+     * Returns the slot of the given key or {@code -1} if the key is not declared by this schema.
+     *
+     * @param key the key
+     * @return the slot or {@code -1}
+     */
+    int slot(@NotNull String key);
+
+    /**
+     * Returns a {@link PlaceholderResolver} that resolves the declared keys to the given values. The value at index
+     * {@code i} belongs to the key in slot {@code i}. A value may be a {@link Placeholder} (its key is ignored), which
+     * is required if the placeholder uses arguments. Any other value is used as the placeholder's constant value.
+     * {@code null} values are not resolved. The array is copied, so it may be modified or reused once this method has
+     * returned.
+     * <p>
+     * The returned {@link PlaceholderResolver} can also be used to render messages that do not use this schema, in
+     * that case its values are looked up by key.
+     *
+     * @param values the values in slot order
+     * @return a new {@link PlaceholderResolver}
+     * @throws IllegalArgumentException if the number of values does not match the number of keys
+     */
+    @NotNull PlaceholderResolver bind(@Nullable Object @NotNull ... values);
+
+    /**
+     * Creates a new {@link PlaceholderSchema} with the given keys.
+     *
+     * @param keys the keys
+     * @return a new {@link PlaceholderSchema}
+     * @throws IllegalArgumentException if a key is empty or declared more than once
+     */
+    static @NotNull PlaceholderSchema of(@NotNull String @NotNull ... keys) {
+        return new PlaceholderSchemaImpl(keys);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import io.github.almightysatan.slams.impl.ReusablePlaceholderResolverImpl;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A mutable {@link PlaceholderResolver} designed to be filled with values for a single call, e.g. when sending a
+ * message. Keys are stored in a small open-addressing table, primitive values are stored without boxing and the
+ * {@link Placeholder Placeholders} returned by {@link #resolve(String)} are reused. Instances obtained via
+ * {@link #acquire()} are pooled per thread and can be reused after {@link #close()} has been called.
+ * <p>
+ * Values are read when the message is rendered. A {@link ReusablePlaceholderResolver} must therefore not be modified
+ * or closed while a message is rendered with it and must not be used after being closed. Instances are not thread
+ * safe.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * try (ReusablePlaceholderResolver resolver = ReusablePlaceholderResolver.acquire()) {
+ *     player.sendMessage(message.value(resolver.set("name", name).set("coins", coins), player));
+ * }
+ * }</pre>
+ */
+public interface ReusablePlaceholderResolver extends PlaceholderResolver, AutoCloseable {
+
+    /**
+     * Adds a {@link Placeholder} or replaces the value with the same key.
+     *
+     * @param placeholder the {@link Placeholder}
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver add(@NotNull Placeholder placeholder);
+
+    /**
+     * Sets the value of the given key. The value's string representation is used as the placeholder's value.
+     *
+     * @param key   the placeholder's key
+     * @param value the value
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver set(@NotNull String key, @NotNull Object value);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the placeholder's key
+     * @param value the value
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver set(@NotNull String key, int value);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the placeholder's key
+     * @param value the value
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver set(@NotNull String key, long value);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the placeholder's key
+     * @param value the value
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver set(@NotNull String key, double value);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the placeholder's key
+     * @param value the value
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver set(@NotNull String key, boolean value);
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the number of keys
+     */
+    int size();
+
+    /**
+     * Removes all values. The allocated capacity is kept.
+     *
+     * @return this {@link ReusablePlaceholderResolver}
+     */
+    @NotNull ReusablePlaceholderResolver reset();
+
+    /**
+     * Removes all values and returns this {@link ReusablePlaceholderResolver} to the pool it was acquired from (if
+     * any). Calling this method more than once has no effect.
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns an empty {@link ReusablePlaceholderResolver} from the pool of the current thread. {@link #close()}
+     * should be called once it is no longer used.
+     *
+     * @return an empty {@link ReusablePlaceholderResolver}
+     */
+    static @NotNull ReusablePlaceholderResolver acquire() {
+        return ReusablePlaceholderResolverImpl.acquire();
+    }
+
+    /**
+     * Creates a new empty {@link ReusablePlaceholderResolver} that does not belong to any pool.
+     *
+     * @return a new {@link ReusablePlaceholderResolver}
+     */
+    static @NotNull ReusablePlaceholderResolver create() {
+        return new ReusablePlaceholderResolverImpl(null);
+    }
+}
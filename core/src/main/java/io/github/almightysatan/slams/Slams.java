@@ -22,9 +22,14 @@ package io.github.almightysatan.slams;
 
 import io.github.almightysatan.slams.impl.SlamsImpl;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * The main SLAMS object.
@@ -48,7 +53,25 @@ public interface Slams {
     void load(@NotNull String identifier, @NotNull LanguageParser @NotNull ... parsers) throws IOException, MissingTranslationException, InvalidTypeException;
 
     /**
-     * Reloads all languages.
+     * Registers new languages and loads their messages. Languages are loaded in parallel using the given
+     * {@link Executor} (e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}). The
+     * {@link LanguageParser LanguageParsers} of a single language are still run in sequential order and can read or
+     * overwrite values loaded by previous parsers. The languages are registered once all of them have been loaded
+     * successfully.
+     *
+     * @param languages the {@link LanguageParser LanguageParsers} of each new language mapped to its identifier
+     * @param executor  the {@link Executor} used to load languages
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid (e.g. an array is supplied for a message
+     *                                     of type String)
+     */
+    void loadAll(@NotNull Map<@NotNull String, @NotNull LanguageParser @NotNull []> languages, @NotNull Executor executor) throws IOException, MissingTranslationException, InvalidTypeException;
+
+    /**
+     * Reloads all languages. Messages can still be translated by other threads while languages are being reloaded,
+     * reloaded languages replace the current ones once all of them have been loaded successfully. If an exception is
+     * thrown the current languages are kept.
      *
      * @throws IOException                 if a parser throws an exception
      * @throws MissingTranslationException if a translation is missing
@@ -57,6 +80,35 @@ public interface Slams {
      */
     void reload() throws IOException, MissingTranslationException, InvalidTypeException;
 
+    /**
+     * Reloads all languages in parallel using the given {@link Executor} (e.g.
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}). Messages can still be translated by other threads while
+     * languages are being reloaded, reloaded languages replace the current ones once all of them have been loaded
+     * successfully. If an exception is thrown the current languages are kept.
+     *
+     * @param executor the {@link Executor} used to load languages
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid (e.g. an array is supplied for a message
+     *                                     of type String)
+     */
+    void reload(@NotNull Executor executor) throws IOException, MissingTranslationException, InvalidTypeException;
+
+    /**
+     * Reloads all languages. Unlike {@link #reload()} translations are only created again if the value of their
+     * message has changed. Messages can still be translated by other threads while languages are being reloaded,
+     * reloaded languages replace the current ones once all of them have been loaded successfully. If an exception is
+     * thrown the current languages are kept.
+     *
+     * @return a {@link Map} containing the paths of all messages that have been changed or added mapped to the
+     * identifier of their language
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid (e.g. an array is supplied for a message
+     *                                     of type String)
+     */
+    @NotNull @Unmodifiable Map<@NotNull String, @NotNull @Unmodifiable Set<@NotNull String>> reloadChanged() throws IOException, MissingTranslationException, InvalidTypeException;
+
     /**
      * Returns a {@link Collection} containing the identifiers of all registered languages.
      *
@@ -71,6 +123,13 @@ public interface Slams {
      */
     @NotNull String defaultLanguageIdentifier();
 
+    /**
+     * Returns the {@link Instrumentation} that receives events and timings from this {@link Slams} instance.
+     *
+     * @return the {@link Instrumentation}
+     */
+    @NotNull Instrumentation instrumentation();
+
     /**
      * Creates a new {@link Slams} instance.
      *
@@ -78,6 +137,17 @@ public interface Slams {
      * @return a new {@link Slams} instance
      */
     static Slams of(@NotNull String defaultLanguageIdentifier) {
-        return new SlamsImpl(defaultLanguageIdentifier);
+        return new SlamsImpl(defaultLanguageIdentifier, Instrumentation.noop());
+    }
+
+    /**
+     * Creates a new {@link Slams} instance that reports events and timings to the given {@link Instrumentation}.
+     *
+     * @param defaultLanguageIdentifier the identifier of the default language
+     * @param instrumentation           the {@link Instrumentation}
+     * @return a new {@link Slams} instance
+     */
+    static Slams of(@NotNull String defaultLanguageIdentifier, @NotNull Instrumentation instrumentation) {
+        return new SlamsImpl(defaultLanguageIdentifier, Objects.requireNonNull(instrumentation));
     }
 }
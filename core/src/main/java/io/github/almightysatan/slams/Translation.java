@@ -20,8 +20,12 @@
 
 package io.github.almightysatan.slams;
 
+import io.github.almightysatan.slams.impl.AsyncRender;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Represents a translation of a message in a specific language.
  *
@@ -38,6 +42,55 @@ public interface Translation<T> {
      */
     @NotNull T value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts);
 
+    /**
+     * Replaces placeholders and appends the resulting value to the given {@link Appendable}. Implementations that
+     * support this write the message's parts directly without building an intermediate string. The default
+     * implementation only supports translations whose value is a {@link CharSequence}.
+     *
+     * @param appendable          the {@link Appendable}, e.g. a {@link StringBuilder} or a {@link java.io.Writer}
+     * @param placeholderResolver a {@link PlaceholderResolver} with additional {@link Placeholder Placeholders}
+     * @param contexts            the contexts supplied to this message
+     * @throws IOException                   if the {@link Appendable} throws an {@link IOException}
+     * @throws UnsupportedOperationException if the value of this translation can not be converted to a string
+     */
+    default void renderTo(@NotNull Appendable appendable, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws IOException {
+        T value = this.value(placeholderResolver, contexts);
+        if (!(value instanceof CharSequence))
+            throw new UnsupportedOperationException("Value is not a CharSequence");
+        appendable.append((CharSequence) value);
+    }
+
+    /**
+     * Replaces placeholders without blocking on {@link Placeholder#async async placeholders}. The futures of all async
+     * placeholders are started concurrently and the returned future completes once all of them have completed. As the
+     * message may be rendered more than once, other placeholders should not have side effects.
+     * <p>
+     * If rendering continues on another thread, the values of a {@link ReusablePlaceholderResolver} passed to this
+     * method are copied first, so it may be reused once this method has returned. This includes
+     * {@link ReusablePlaceholderResolver ReusablePlaceholderResolvers} wrapped by
+     * {@link PlaceholderResolver#of(PlaceholderResolver...)} or {@link PlaceholderResolver#compile}. Any other
+     * {@link PlaceholderResolver} must keep resolving the same {@link Placeholder Placeholders} until the returned
+     * future has completed.
+     *
+     * @param placeholderResolver a {@link PlaceholderResolver} with additional {@link Placeholder Placeholders}
+     * @param contexts            the contexts supplied to this message
+     * @return a future that completes with the value
+     */
+    default @NotNull CompletableFuture<T> valueAsync(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+        return AsyncRender.render(this, placeholderResolver, contexts);
+    }
+
+    /**
+     * Replaces placeholders without blocking on {@link Placeholder#async async placeholders}.
+     *
+     * @param contexts the contexts supplied to this message
+     * @return a future that completes with the value
+     * @see #valueAsync(PlaceholderResolver, Object...)
+     */
+    default @NotNull CompletableFuture<T> valueAsync(@NotNull Object @NotNull ... contexts) {
+        return this.valueAsync(PlaceholderResolver.empty(), contexts);
+    }
+
     /**
      * Replaces placeholders and returns the resulting value.
      *
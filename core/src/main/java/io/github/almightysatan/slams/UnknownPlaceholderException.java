@@ -0,0 +1,39 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown if a message uses a {@link Placeholder} that is neither resolved by its {@link PlaceholderResolver} nor
+ * declared by its {@link PlaceholderSchema}.
+ */
+public class UnknownPlaceholderException extends RuntimeException {
+
+    /**
+     * Creates a new {@link UnknownPlaceholderException}.
+     *
+     * @param key the unknown key
+     */
+    public UnknownPlaceholderException(@NotNull String key) {
+        super(String.format("Unknown placeholder: %s", key));
+    }
+}
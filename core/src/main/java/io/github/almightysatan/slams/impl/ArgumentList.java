@@ -28,26 +28,111 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.io.IOException;
 import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.List;
 
+/**
+ * A {@link List} of {@link Placeholder.Argument Arguments}. The {@link Placeholder.Argument Arguments} are views that
+ * are allocated once per {@link ArgumentList}. Instances obtained via {@link #acquire} are pooled per thread and
+ * reused after {@link #release()} has been called, they must not be used after being released. This lifetime is part of
+ * the contract of {@link Placeholder.Argument}.
+ *
+ * @param <T> the type of the arguments
+ */
 @ApiStatus.Internal
 public class ArgumentList<T> extends AbstractList<Placeholder.Argument<T>> {
 
-    private final List<Component<T>> components;
-    private final PlaceholderResolver placeholderResolver;
-    private final Object[] contexts;
+    private static final ThreadLocal<ArrayDeque<ArgumentList<?>>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final ArrayDeque<ArgumentList<?>> pool;
+    private List<Component<T>> components;
+    private PlaceholderResolver placeholderResolver;
+    private Object[] contexts;
+    private ArgumentView[] arguments;
+
+    private ArgumentList(@Nullable ArrayDeque<ArgumentList<?>> pool) {
+        this.pool = pool;
+        this.arguments = newArguments(0);
+    }
 
     public ArgumentList(@Unmodifiable @NotNull List<@NotNull Component<T>> components, @NotNull PlaceholderResolver placeholderResolver,
             @NotNull Object @NotNull [] contexts) {
+        this(null);
+        this.bind(components, placeholderResolver, contexts);
+    }
+
+    /**
+     * Returns an {@link ArgumentList} from the pool of the current thread. {@link #release()} should be called once
+     * the {@link ArgumentList} and its {@link Placeholder.Argument Arguments} are no longer used.
+     *
+     * @param components          the arguments
+     * @param placeholderResolver the local {@link PlaceholderResolver}
+     * @param contexts            the contexts
+     * @param <T>                 the type of the arguments
+     * @return an {@link ArgumentList}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull ArgumentList<T> acquire(@Unmodifiable @NotNull List<@NotNull Component<T>> components,
+            @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+        ArrayDeque<ArgumentList<?>> pool = POOL.get();
+        ArgumentList<T> argumentList = (ArgumentList<T>) pool.poll();
+        if (argumentList == null)
+            argumentList = new ArgumentList<>(pool);
+        argumentList.bind(components, placeholderResolver, contexts);
+        return argumentList;
+    }
+
+    /**
+     * Returns this {@link ArgumentList} to the pool it was acquired from. Does nothing if this {@link ArgumentList}
+     * has not been acquired from a pool.
+     */
+    public void release() {
+        if (this.pool == null)
+            return;
+        this.components = null;
+        this.placeholderResolver = null;
+        this.contexts = null;
+        this.pool.push(this);
+    }
+
+    private void bind(@Unmodifiable @NotNull List<@NotNull Component<T>> components, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts) {
         this.components = components;
         this.placeholderResolver = placeholderResolver;
         this.contexts = contexts;
+
+        int size = components.size();
+        if (this.arguments.length < size) {
+            ArgumentView[] arguments = newArguments(size);
+            System.arraycopy(this.arguments, 0, arguments, 0, this.arguments.length);
+            for (int i = this.arguments.length; i < size; i++)
+                arguments[i] = new ArgumentView(i);
+            this.arguments = arguments;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentView[] newArguments(int size) {
+        // arrays of the inner class can only be created with a wildcard, the views are only ever created by this list
+        return (ArgumentView[]) new ArgumentList<?>.ArgumentView[size];
+    }
+
+    /**
+     * Returns the compiled {@link Component Components} of the arguments.
+     *
+     * @return the arguments
+     */
+    public @Unmodifiable @NotNull List<@NotNull Component<T>> components() {
+        return this.components;
     }
 
     @Override
     public Placeholder.Argument<T> get(int index) {
-        return toArgument(this.components.get(index), this.placeholderResolver, this.contexts);
+        if (index < 0 || index >= this.components.size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.components.size());
+        return this.arguments[index];
     }
 
     @Override
@@ -73,10 +158,51 @@ public class ArgumentList<T> extends AbstractList<Placeholder.Argument<T>> {
                 return component.rawValue(placeholderResolver, contexts);
             }
 
+            @Override
+            public void writeTo(@NotNull PlaceholderResolver placeholderResolver0, @NotNull Object @NotNull [] contexts0,
+                    @NotNull Appendable appendable) throws IOException {
+                component.writeTo(placeholderResolver, contexts, appendable);
+            }
+
             @Override
             public boolean constexpr() {
                 return component.constexpr();
             }
         };
     }
+
+    private class ArgumentView implements Placeholder.Argument<T> {
+
+        private final int index;
+
+        private ArgumentView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public @NotNull T value() {
+            return ArgumentList.this.components.get(this.index).value(ArgumentList.this.placeholderResolver, ArgumentList.this.contexts);
+        }
+
+        @Override
+        public @NotNull String stringValue() {
+            return ArgumentList.this.components.get(this.index).stringValue(ArgumentList.this.placeholderResolver, ArgumentList.this.contexts);
+        }
+
+        @Override
+        public @Nullable Object rawValue() {
+            return ArgumentList.this.components.get(this.index).rawValue(ArgumentList.this.placeholderResolver, ArgumentList.this.contexts);
+        }
+
+        @Override
+        public void writeTo(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts,
+                @NotNull Appendable appendable) throws IOException {
+            ArgumentList.this.components.get(this.index).writeTo(ArgumentList.this.placeholderResolver, ArgumentList.this.contexts, appendable);
+        }
+
+        @Override
+        public boolean constexpr() {
+            return ArgumentList.this.components.get(this.index).constexpr();
+        }
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.Translation;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Renders a {@link Translation} without blocking on {@link Placeholder#async async placeholders}. The translation is
+ * rendered once on the calling thread, which starts the futures of all async placeholders it encounters. Pending
+ * placeholders are rendered as empty strings during this round. Once all futures have completed the translation is
+ * rendered again using their results. Further rounds are only needed if the previous round encountered new async
+ * placeholders, e.g. because an argument of an async placeholder depends on another async placeholder. Such a
+ * placeholder is only started once its arguments are known.
+ * <p>
+ * Async placeholders are identified by their instance, their contexts and the string values of their arguments.
+ * Arguments are materialized before the future is started, as {@link ArgumentList ArgumentLists} are reused once the
+ * round has finished.
+ */
+@ApiStatus.Internal
+public final class AsyncRender {
+
+    private static final int MAX_ROUNDS = 8;
+    private static final ThreadLocal<AsyncRender> CURRENT = new ThreadLocal<>();
+
+    private final Map<Key, CompletableFuture<?>> futures = new HashMap<>();
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+    private AsyncRender() {}
+
+    /**
+     * Renders the given {@link Translation}. The returned future completes once all async placeholders have been
+     * resolved or completes exceptionally if rendering fails or one of the async placeholders fails.
+     *
+     * @param translation         the translation
+     * @param placeholderResolver the local {@link PlaceholderResolver}
+     * @param contexts            the contexts
+     * @param <T>                 the type of the value
+     * @return a future that completes with the value
+     */
+    public static <T> @NotNull CompletableFuture<T> render(@NotNull Translation<T> translation, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts) {
+        AsyncRender render = new AsyncRender();
+        T value;
+        try {
+            value = render.round(translation, placeholderResolver, contexts);
+        } catch (Throwable t) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+            return future;
+        }
+        if (render.pending.isEmpty())
+            return CompletableFuture.completedFuture(value);
+        // the following rounds may run on another thread after this method has returned
+        return render.next(translation, snapshot(placeholderResolver), contexts.clone(), 2);
+    }
+
+    /**
+     * Evaluates an async placeholder. Returns {@code null} if the future has not completed yet. The future is not
+     * started if any of the arguments depends on an async placeholder that has not completed yet.
+     * <p>
+     * If no async render is in progress on the current thread, the future is never joined as the message is rendered
+     * synchronously, possibly on a thread that must not block. Its value is used if it has already completed.
+     * Otherwise an {@link IllegalStateException} is thrown.
+     *
+     * @param placeholder   the async placeholder
+     * @param valueFunction the placeholder's value function
+     * @param contexts      the contexts
+     * @param arguments     the placeholder's arguments
+     * @return the value or {@code null}
+     */
+    public static @Nullable Object value(@NotNull Placeholder placeholder, @NotNull Placeholder.AsyncValueFunction valueFunction,
+            @NotNull Object @NotNull [] contexts, @NotNull List<? extends Placeholder.@NotNull Argument<?>> arguments) {
+        AsyncRender render = CURRENT.get();
+        int pending = render != null ? render.pending.size() : 0;
+        List<String> strings = materialize(arguments);
+        if (render == null) {
+            CompletableFuture<?> future = Objects.requireNonNull(valueFunction.value(contexts, strings));
+            if (!future.isDone())
+                throw new IllegalStateException("Async placeholder " + placeholder.key() + " has not completed yet, use valueAsync to render this message");
+            return future.join();
+        }
+        if (render.pending.size() != pending)
+            return null; // wait for the arguments
+
+        Key key = new Key(placeholder, contexts.clone(), strings);
+        CompletableFuture<?> future = render.futures.get(key);
+        if (future == null) {
+            future = Objects.requireNonNull(valueFunction.value(key.contexts, strings));
+            render.futures.put(key, future);
+        }
+        if (future.isDone())
+            return future.join();
+        render.pending.add(future);
+        return null;
+    }
+
+    /**
+     * Returns the number of pending futures of the async render in progress on the current thread or {@code 0} if no
+     * async render is in progress. The number only grows during a round. A value that was evaluated while it grew
+     * depends on an async placeholder that has not completed yet, so it is only valid for the current round and must
+     * not be cached.
+     *
+     * @return the number of pending futures
+     */
+    public static int pending() {
+        AsyncRender render = CURRENT.get();
+        return render != null ? render.pending.size() : 0;
+    }
+
+    private static @NotNull List<@NotNull String> materialize(@NotNull List<? extends Placeholder.@NotNull Argument<?>> arguments) {
+        if (arguments.isEmpty())
+            return Collections.emptyList();
+        String[] strings = new String[arguments.size()];
+        for (int i = 0; i < strings.length; i++)
+            strings[i] = arguments.get(i).stringValue();
+        return Collections.unmodifiableList(Arrays.asList(strings));
+    }
+
+    private <T> @NotNull CompletableFuture<T> next(@NotNull Translation<T> translation, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts, int round) {
+        CompletableFuture<?>[] pending = this.pending.toArray(new CompletableFuture<?>[0]);
+        this.pending.clear();
+        return CompletableFuture.allOf(pending).thenCompose(ignored -> {
+            T value = this.round(translation, placeholderResolver, contexts);
+            if (this.pending.isEmpty())
+                return CompletableFuture.completedFuture(value);
+            if (round == MAX_ROUNDS)
+                throw new IllegalStateException("Async placeholders are still pending after " + MAX_ROUNDS + " rounds");
+            return this.next(translation, placeholderResolver, contexts, round + 1);
+        });
+    }
+
+    private <T> @NotNull T round(@NotNull Translation<T> translation, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts) {
+        AsyncRender previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return translation.value(placeholderResolver, contexts);
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Copies the values of all {@link ReusablePlaceholderResolverImpl ReusablePlaceholderResolvers} in the given
+     * {@link PlaceholderResolver}, including those wrapped by chained or compiled resolvers. Returns the given
+     * {@link PlaceholderResolver} if it does not contain any.
+     */
+    private static @NotNull PlaceholderResolver snapshot(@NotNull PlaceholderResolver placeholderResolver) {
+        if (placeholderResolver instanceof ReusablePlaceholderResolverImpl)
+            return ((ReusablePlaceholderResolverImpl) placeholderResolver).snapshot();
+        if (placeholderResolver instanceof ChainedPlaceholderResolver) {
+            PlaceholderResolver[] resolvers = ((ChainedPlaceholderResolver) placeholderResolver).resolvers();
+            PlaceholderResolver[] snapshots = snapshot(resolvers);
+            return snapshots != resolvers ? new ChainedPlaceholderResolver(snapshots) : placeholderResolver;
+        }
+        if (placeholderResolver instanceof CompiledPlaceholderResolver) {
+            PlaceholderResolver[] segments = ((CompiledPlaceholderResolver) placeholderResolver).segments();
+            PlaceholderResolver[] snapshots = snapshot(segments);
+            return snapshots != segments ? CompiledPlaceholderResolver.compile(snapshots) : placeholderResolver;
+        }
+        return placeholderResolver;
+    }
+
+    private static @NotNull PlaceholderResolver @NotNull [] snapshot(@NotNull PlaceholderResolver @NotNull [] resolvers) {
+        PlaceholderResolver[] snapshots = resolvers;
+        for (int i = 0; i < resolvers.length; i++) {
+            PlaceholderResolver snapshot = snapshot(resolvers[i]);
+            if (snapshot != resolvers[i]) {
+                if (snapshots == resolvers)
+                    snapshots = resolvers.clone();
+                snapshots[i] = snapshot;
+            }
+        }
+        return snapshots;
+    }
+
+    private static class Key {
+
+        private final Placeholder placeholder;
+        private final Object[] contexts;
+        private final List<String> arguments;
+        private final int hash;
+
+        private Key(@NotNull Placeholder placeholder, @NotNull Object @NotNull [] contexts, @NotNull List<@NotNull String> arguments) {
+            this.placeholder = placeholder;
+            this.contexts = contexts;
+            this.arguments = arguments;
+            this.hash = 31 * (31 * System.identityHashCode(placeholder) + Arrays.hashCode(contexts)) + arguments.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return this.placeholder == key.placeholder && Arrays.equals(this.contexts, key.contexts) && this.arguments.equals(key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
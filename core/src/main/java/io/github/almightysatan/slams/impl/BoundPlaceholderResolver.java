@@ -0,0 +1,71 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.PlaceholderSchema;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The result of {@link PlaceholderSchema#bind(Object...)}. Components that have been bound to a slot of the same
+ * {@link PlaceholderSchema} read their value directly from the array.
+ */
+@ApiStatus.Internal
+public class BoundPlaceholderResolver implements PlaceholderResolver {
+
+    private final PlaceholderSchema schema;
+    private final Object[] values;
+
+    BoundPlaceholderResolver(@NotNull PlaceholderSchema schema, @Nullable Object @NotNull [] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    @Override
+    public @Nullable Placeholder resolve(@NotNull String key) {
+        int slot = this.schema.slot(key);
+        if (slot < 0)
+            return null;
+        Object value = this.values[slot];
+        if (value == null || value instanceof Placeholder)
+            return (Placeholder) value;
+        return Placeholder.constant(key, value);
+    }
+
+    /**
+     * Returns the value of a placeholder that has been bound to a slot. Returns either a {@link Placeholder}, a
+     * constant value or {@code null} if the placeholder is not resolved.
+     *
+     * @param placeholderResolver the {@link PlaceholderResolver} supplied when rendering
+     * @param schema              the {@link PlaceholderSchema} of the message
+     * @param slot                the slot
+     * @param key                 the placeholder's key
+     * @return a {@link Placeholder}, a constant value or {@code null}
+     */
+    public static @Nullable Object lookup(@NotNull PlaceholderResolver placeholderResolver, @NotNull PlaceholderSchema schema, int slot, @NotNull String key) {
+        if (placeholderResolver instanceof BoundPlaceholderResolver && ((BoundPlaceholderResolver) placeholderResolver).schema == schema)
+            return ((BoundPlaceholderResolver) placeholderResolver).values[slot];
+        return placeholderResolver.resolve(key);
+    }
+}
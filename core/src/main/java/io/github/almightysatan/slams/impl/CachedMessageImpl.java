@@ -0,0 +1,222 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.*;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+@ApiStatus.Internal
+public class CachedMessageImpl<T> implements CachedMessage<T>, SlamsInternal.ReloadListener {
+
+    private final Message<T> message;
+    private final long expireAfterWriteNanos;
+    private final boolean identityContexts;
+    private final boolean ignoreResolver;
+    private final UnaryOperator<T> copier;
+    private final Map<Key, CachedValue<T>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachedMessageImpl(@NotNull Message<T> message, int maximumSize, long expireAfterWriteNanos, boolean identityContexts,
+            boolean ignoreResolver, @Nullable UnaryOperator<T> copier) {
+        this.message = message;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.identityContexts = identityContexts;
+        this.ignoreResolver = ignoreResolver;
+        this.copier = copier != null ? copier : CachedMessageImpl::copyArrays;
+        this.entries = new LinkedHashMap<Key, CachedValue<T>>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedValue<T>> eldest) {
+                return this.size() > maximumSize;
+            }
+        };
+        if (message instanceof MessageImpl)
+            ((MessageImpl<T>) message).slams().addReloadListener(this);
+    }
+
+    @Override
+    public @NotNull String path() {
+        return this.message.path();
+    }
+
+    @Override
+    public @NotNull Translation<T> translate(@Nullable String language, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        return this.message.translate(language, contexts);
+    }
+
+    @Override
+    public @NotNull T value(@Nullable String language, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        Translation<T> translation = this.message.translate(language, contexts);
+        PlaceholderResolver keyResolver = this.ignoreResolver ? null : placeholderResolver;
+        if (keyResolver != null && !CompiledPlaceholderResolver.isImmutable(keyResolver)) {
+            // resolvers that are created per call would never be hit again and only evict other values
+            this.misses.increment();
+            return translation.value(placeholderResolver, contexts);
+        }
+        Key key = new Key(translation, keyResolver, contexts, this.identityContexts);
+        long time = this.expireAfterWriteNanos > 0 ? System.nanoTime() : 0;
+
+        synchronized (this.entries) {
+            CachedValue<T> entry = this.entries.get(key);
+            if (entry != null) {
+                if (this.expireAfterWriteNanos <= 0 || time - entry.time < this.expireAfterWriteNanos) {
+                    this.hits.increment();
+                    return this.copier.apply(entry.value);
+                }
+                this.entries.remove(key);
+            }
+        }
+
+        this.misses.increment();
+        T value = translation.value(placeholderResolver, contexts);
+        Key copy = new Key(translation, keyResolver, contexts.clone(), this.identityContexts);
+        synchronized (this.entries) {
+            this.entries.put(copy, new CachedValue<>(value, time));
+        }
+        return this.copier.apply(value);
+    }
+
+    /**
+     * The default copier. Arrays are copied (including nested arrays), their elements and all other values are
+     * returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T copyArrays(T value) {
+        if (!(value instanceof Object[]))
+            return value;
+        Object[] copy = ((Object[]) value).clone();
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = copyArrays(copy[i]);
+        return (T) copy;
+    }
+
+    @Override
+    public void reloaded() {
+        this.invalidateAll();
+    }
+
+    @Override
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    @Override
+    public void invalidate(@NotNull Object context) {
+        synchronized (this.entries) {
+            Iterator<Key> iterator = this.entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                for (Object element : iterator.next().contexts) {
+                    if (this.identityContexts ? element == context : element.equals(context)) {
+                        iterator.remove();
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Key {
+
+        private final Translation<?> translation;
+        private final PlaceholderResolver placeholderResolver;
+        private final Object[] contexts;
+        private final boolean identityContexts;
+        private final int hashCode;
+
+        private Key(@NotNull Translation<?> translation, @Nullable PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts, boolean identityContexts) {
+            this.translation = translation;
+            this.placeholderResolver = placeholderResolver;
+            this.contexts = contexts;
+            this.identityContexts = identityContexts;
+
+            int hashCode = 31 * System.identityHashCode(translation) + System.identityHashCode(placeholderResolver);
+            if (identityContexts) {
+                for (Object context : contexts)
+                    hashCode = 31 * hashCode + System.identityHashCode(context);
+            } else
+                hashCode = 31 * hashCode + Arrays.hashCode(contexts);
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            if (this.translation != key.translation || this.placeholderResolver != key.placeholderResolver)
+                return false;
+            if (!this.identityContexts)
+                return Arrays.equals(this.contexts, key.contexts);
+            if (this.contexts.length != key.contexts.length)
+                return false;
+            for (int i = 0; i < this.contexts.length; i++)
+                if (this.contexts[i] != key.contexts[i])
+                    return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    private static class CachedValue<T> {
+
+        private final T value;
+        private final long time;
+
+        private CachedValue(@NotNull T value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.CachedPlaceholder;
+import io.github.almightysatan.slams.Component;
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the {@link Component Components} returned by a {@link Placeholder}. On a miss the underlying
+ * {@link Placeholder} is evaluated lazily, and only the parts of its {@link Component} (value, string value or raw
+ * value) that the message being rendered actually uses are evaluated and stored. A part that is requested later is
+ * evaluated on demand and added to the cached entry. Components are never stored as is, as they may reference pooled
+ * {@link ArgumentList ArgumentLists}.
+ * <p>
+ * Constant arguments are part of the key by identity of their compiled {@link Component}, so they are not evaluated
+ * on hits. Arguments that are not constant have to be evaluated to build the key.
+ * <p>
+ * Values that depend on an {@link Placeholder#async async placeholder} that has not completed yet are not cached, see
+ * {@link AsyncRender#pending()}.
+ * <p>
+ * Once the cache is full, expired entries are evicted. If that is not enough, the eighth of the entries with the
+ * oldest write time is evicted.
+ */
+@ApiStatus.Internal
+public class CachedPlaceholderImpl implements CachedPlaceholder {
+
+    private static final int VALUE = 1;
+    private static final int STRING_VALUE = 2;
+    private static final int RAW_VALUE = 4;
+    private static final int ALL = VALUE | STRING_VALUE | RAW_VALUE;
+
+    private final Placeholder placeholder;
+    private final long expireAfterWriteNanos;
+    private final CacheKeyFunction keyFunction;
+    private final int maximumSize;
+    private final Map<Key, CachedValue<?>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachedPlaceholderImpl(@NotNull Placeholder placeholder, long expireAfterWriteNanos, @NotNull CacheKeyFunction keyFunction, int maximumSize) {
+        this.placeholder = placeholder;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.keyFunction = keyFunction;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public @NotNull String key() {
+        return this.placeholder.key();
+    }
+
+    @Override
+    public boolean constexpr() {
+        return false; // cached values expire
+    }
+
+    @Override
+    public <T> @Nullable ProcessedPlaceholder<T> processArguments(@Unmodifiable @NotNull List<@Nullable Argument<T>> arguments,
+            Component.@NotNull ValueFactory<T> factory) {
+        return null; // constant arguments must not fold the placeholder's current value into the message
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> @NotNull Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments,
+            Component.@NotNull ValueFactory<T> factory) {
+        Object contextKey = this.keyFunction.key(contexts);
+        if (contextKey == null) {
+            this.misses.increment();
+            return this.placeholder.value(contexts, arguments, factory);
+        }
+
+        int pending = AsyncRender.pending();
+        List<Object> argumentsKey = argumentsKey(arguments);
+        if (AsyncRender.pending() != pending) {
+            // an argument is still pending, so the key is not known yet
+            this.misses.increment();
+            return this.placeholder.value(contexts, arguments, factory);
+        }
+        Key key = new Key(factory, contextKey, argumentsKey);
+        long time = System.nanoTime();
+        CachedValue<T> entry = (CachedValue<T>) this.entries.get(key);
+        if (entry != null) {
+            if (time - entry.time < this.expireAfterWriteNanos) {
+                this.hits.increment();
+                if (entry.known == ALL)
+                    return entry;
+                return new PendingComponent<>(this, key, entry, contexts, arguments, factory);
+            }
+            this.entries.remove(key, entry);
+        }
+
+        this.misses.increment();
+        return new PendingComponent<>(this, key, new CachedValue<>(null, null, null, 0, time), contexts, arguments, factory);
+    }
+
+    @Override
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.entries.clear();
+    }
+
+    @Override
+    public void invalidate(@NotNull Object key) {
+        this.entries.keySet().removeIf(entryKey -> entryKey.contextKey.equals(key));
+    }
+
+    private void put(@NotNull Key key, @NotNull CachedValue<?> entry) {
+        if (this.entries.size() >= this.maximumSize && !this.entries.containsKey(key))
+            this.evict(entry.time);
+        this.entries.put(key, entry);
+    }
+
+    /**
+     * Evicts expired entries. If the cache is still full, the eighth of the entries with the oldest write time is
+     * evicted, so the cache is not scanned again on every insert.
+     */
+    private synchronized void evict(long time) {
+        if (this.entries.size() < this.maximumSize)
+            return;
+        this.entries.values().removeIf(value -> time - value.time >= this.expireAfterWriteNanos);
+        if (this.entries.size() < this.maximumSize)
+            return;
+
+        long[] times = this.entries.values().stream().mapToLong(value -> value.time).sorted().toArray();
+        if (times.length == 0)
+            return;
+        long threshold = times[Math.min(times.length - 1, Math.max(1, times.length / 8) - 1)];
+        this.entries.values().removeIf(value -> value.time <= threshold);
+    }
+
+    /**
+     * Returns the key of the given arguments. Arguments of an {@link ArgumentList} that are constant are represented
+     * by their compiled {@link Component}, all other arguments by their string value.
+     */
+    private static @NotNull List<@NotNull Object> argumentsKey(@NotNull List<? extends @NotNull Argument<?>> arguments) {
+        if (arguments.isEmpty())
+            return Collections.emptyList();
+        List<? extends Component<?>> components = arguments instanceof ArgumentList ? ((ArgumentList<?>) arguments).components() : null;
+        Object[] key = new Object[arguments.size()];
+        for (int i = 0; i < key.length; i++) {
+            if (components != null && components.get(i).constexpr())
+                key[i] = components.get(i);
+            else
+                key[i] = arguments.get(i).stringValue();
+        }
+        return Arrays.asList(key);
+    }
+
+    private static class Key {
+
+        private final Component.ValueFactory<?> factory;
+        private final Object contextKey;
+        private final List<Object> arguments;
+        private final int hashCode;
+
+        private Key(Component.@NotNull ValueFactory<?> factory, @NotNull Object contextKey, @NotNull List<@NotNull Object> arguments) {
+            this.factory = factory;
+            this.contextKey = contextKey;
+            this.arguments = arguments;
+            this.hashCode = 31 * (31 * System.identityHashCode(factory) + contextKey.hashCode()) + arguments.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return this.factory == key.factory && this.contextKey.equals(key.contextKey) && this.arguments.equals(key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * Returned on a miss or if a cached entry does not contain all parts yet. The underlying {@link Placeholder} is
+     * evaluated once when the first missing part is requested, each missing part of its {@link Component} is evaluated
+     * at most once and added to the cache.
+     */
+    private static class PendingComponent<T> implements Component<T> {
+
+        private final CachedPlaceholderImpl cache;
+        private final Key key;
+        private CachedValue<T> entry;
+        private Object[] contexts;
+        private List<Argument<T>> arguments;
+        private Component.ValueFactory<T> factory;
+        private Component<T> component;
+        private boolean incomplete;
+
+        private PendingComponent(@NotNull CachedPlaceholderImpl cache, @NotNull Key key, @NotNull CachedValue<T> entry,
+                @NotNull Object @NotNull [] contexts, @NotNull List<@NotNull Argument<T>> arguments, Component.@NotNull ValueFactory<T> factory) {
+            this.cache = cache;
+            this.key = key;
+            this.entry = entry;
+            this.contexts = contexts;
+            this.arguments = arguments;
+            this.factory = factory;
+        }
+
+        private @NotNull Component<T> component() {
+            if (this.component == null) {
+                this.component = this.cache.placeholder.value(this.contexts, this.arguments, this.factory);
+                this.contexts = null;
+                this.arguments = null;
+                this.factory = null;
+            }
+            return this.component;
+        }
+
+        private void update(@NotNull CachedValue<T> entry, int pending) {
+            this.entry = entry;
+            if (AsyncRender.pending() != pending)
+                this.incomplete = true; // the component depends on an async placeholder that has not completed yet
+            if (!this.incomplete)
+                this.cache.put(this.key, entry);
+        }
+
+        @Override
+        public @NotNull T value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            CachedValue<T> entry = this.entry;
+            if ((entry.known & VALUE) == 0) {
+                int pending = AsyncRender.pending();
+                T value = this.component().value(placeholderResolver, contexts);
+                this.update(entry = new CachedValue<>(value, value instanceof String ? (String) value : entry.stringValue, entry.rawValue,
+                        entry.known | VALUE | (value instanceof String ? STRING_VALUE : 0), entry.time), pending);
+            }
+            return entry.value;
+        }
+
+        @Override
+        public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            CachedValue<T> entry = this.entry;
+            if ((entry.known & STRING_VALUE) == 0) {
+                int pending = AsyncRender.pending();
+                String stringValue = this.component().stringValue(placeholderResolver, contexts);
+                this.update(entry = new CachedValue<>(entry.value, stringValue, entry.rawValue, entry.known | STRING_VALUE, entry.time), pending);
+            }
+            return entry.stringValue;
+        }
+
+        @Override
+        public @Nullable Object rawValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            CachedValue<T> entry = this.entry;
+            if ((entry.known & RAW_VALUE) == 0) {
+                int pending = AsyncRender.pending();
+                Object rawValue = this.component().rawValue(placeholderResolver, contexts);
+                this.update(entry = new CachedValue<>(entry.value, entry.stringValue, rawValue, entry.known | RAW_VALUE, entry.time), pending);
+            }
+            return entry.rawValue;
+        }
+
+        @Override
+        public boolean constexpr() {
+            return false;
+        }
+    }
+
+    /**
+     * The cached parts of a {@link Component}. Immutable, parts that are added later replace the whole entry.
+     */
+    private static class CachedValue<T> implements Component<T> {
+
+        private final T value;
+        private final String stringValue;
+        private final Object rawValue;
+        private final int known;
+        private final long time;
+
+        private CachedValue(@Nullable T value, @Nullable String stringValue, @Nullable Object rawValue, int known, long time) {
+            this.value = value;
+            this.stringValue = stringValue;
+            this.rawValue = rawValue;
+            this.known = known;
+            this.time = time;
+        }
+
+        @Override
+        public @NotNull T value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            return this.value;
+        }
+
+        @Override
+        public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            return this.stringValue;
+        }
+
+        @Override
+        public @Nullable Object rawValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            return this.rawValue;
+        }
+
+        @Override
+        public boolean constexpr() {
+            return false;
+        }
+    }
+}
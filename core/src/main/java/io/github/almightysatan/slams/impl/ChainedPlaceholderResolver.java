@@ -0,0 +1,55 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link PlaceholderResolver} that asks multiple {@link PlaceholderResolver PlaceholderResolvers} in order and
+ * returns the first {@link Placeholder} found.
+ */
+@ApiStatus.Internal
+public class ChainedPlaceholderResolver implements PlaceholderResolver {
+
+    private final PlaceholderResolver[] resolvers;
+
+    public ChainedPlaceholderResolver(@NotNull PlaceholderResolver @NotNull [] resolvers) {
+        this.resolvers = resolvers;
+    }
+
+    @Override
+    public @Nullable Placeholder resolve(@NotNull String key) {
+        for (PlaceholderResolver resolver : this.resolvers) {
+            Placeholder placeholder = resolver.resolve(key);
+            if (placeholder != null)
+                return placeholder;
+        }
+        return null;
+    }
+
+    public @NotNull PlaceholderResolver @NotNull [] resolvers() {
+        return this.resolvers;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The result of {@link PlaceholderResolver#compile(PlaceholderResolver...)}. All {@link Placeholder Placeholders}
+ * that are known ahead of time are merged into a single immutable {@link Map}. Other
+ * {@link PlaceholderResolver PlaceholderResolvers} are kept in order and the results of asking them (including
+ * {@code null}) are cached.
+ */
+@ApiStatus.Internal
+public class CompiledPlaceholderResolver implements PlaceholderResolver {
+
+    /**
+     * Upper bound for the number of cached lookups. Once reached, lookups are no longer cached but still resolved.
+     */
+    static final int MAX_CACHED_LOOKUPS = 4096;
+
+    private static final Object MISS = new Object();
+
+    private final PlaceholderResolver[] segments;
+    private final Map<String, Object> cache = new ConcurrentHashMap<>();
+
+    private CompiledPlaceholderResolver(@NotNull PlaceholderResolver @NotNull [] segments) {
+        this.segments = segments;
+    }
+
+    @Override
+    public @Nullable Placeholder resolve(@NotNull String key) {
+        Object cached = this.cache.get(key);
+        if (cached != null)
+            return cached == MISS ? null : (Placeholder) cached;
+
+        Placeholder placeholder = null;
+        for (PlaceholderResolver segment : this.segments)
+            if ((placeholder = segment.resolve(key)) != null)
+                break;
+
+        if (this.cache.size() < MAX_CACHED_LOOKUPS)
+            this.cache.put(key, placeholder != null ? placeholder : MISS);
+        return placeholder;
+    }
+
+    public @NotNull PlaceholderResolver @NotNull [] segments() {
+        return this.segments;
+    }
+
+    /**
+     * Flattens the given {@link PlaceholderResolver PlaceholderResolvers} into a single {@link PlaceholderResolver}.
+     * Resolvers created by {@link PlaceholderResolver#builder()}, {@link PlaceholderResolver#of} or a previous call
+     * to this method are unwrapped, consecutive {@link Map Maps} are merged (the first {@link Placeholder} with a
+     * given key wins) and copied.
+     *
+     * @param resolvers the {@link PlaceholderResolver PlaceholderResolvers} in order of precedence
+     * @return a new {@link PlaceholderResolver}
+     */
+    public static @NotNull PlaceholderResolver compile(@NotNull PlaceholderResolver @NotNull ... resolvers) {
+        List<PlaceholderResolver> segments = new ArrayList<>();
+        Map<String, Placeholder> placeholders = new HashMap<>();
+        for (PlaceholderResolver resolver : resolvers)
+            flatten(Objects.requireNonNull(resolver), segments, placeholders);
+        flush(segments, placeholders);
+
+        if (segments.isEmpty())
+            return PlaceholderResolver.EMPTY;
+        if (segments.size() == 1 && segments.get(0) instanceof MapPlaceholderResolver)
+            return segments.get(0);
+        return new CompiledPlaceholderResolver(segments.toArray(new PlaceholderResolver[0]));
+    }
+
+    /**
+     * Returns {@code true} if the given {@link PlaceholderResolver} is known to always resolve the same
+     * {@link Placeholder Placeholders}. This is the case for {@link PlaceholderResolver#empty()}, the results of
+     * {@link #compile} and immutable {@link MapPlaceholderResolver MapPlaceholderResolvers}.
+     *
+     * @param placeholderResolver the {@link PlaceholderResolver}
+     * @return whether the given {@link PlaceholderResolver} is immutable
+     */
+    public static boolean isImmutable(@NotNull PlaceholderResolver placeholderResolver) {
+        return placeholderResolver == PlaceholderResolver.EMPTY || placeholderResolver instanceof CompiledPlaceholderResolver
+                || placeholderResolver instanceof MapPlaceholderResolver && ((MapPlaceholderResolver) placeholderResolver).immutable();
+    }
+
+    private static void flatten(@NotNull PlaceholderResolver resolver, @NotNull List<PlaceholderResolver> segments, @NotNull Map<String, Placeholder> placeholders) {
+        if (resolver == PlaceholderResolver.EMPTY)
+            return;
+        if (resolver instanceof MapPlaceholderResolver) {
+            for (Map.Entry<String, Placeholder> entry : ((MapPlaceholderResolver) resolver).placeholders().entrySet())
+                placeholders.putIfAbsent(entry.getKey(), entry.getValue());
+        } else if (resolver instanceof ChainedPlaceholderResolver) {
+            for (PlaceholderResolver child : ((ChainedPlaceholderResolver) resolver).resolvers())
+                flatten(child, segments, placeholders);
+        } else if (resolver instanceof CompiledPlaceholderResolver) {
+            for (PlaceholderResolver child : ((CompiledPlaceholderResolver) resolver).segments)
+                flatten(child, segments, placeholders);
+        } else {
+            // an opaque resolver may shadow placeholders of later resolvers, so the map can not be merged across it
+            flush(segments, placeholders);
+            segments.add(resolver);
+        }
+    }
+
+    private static void flush(@NotNull List<PlaceholderResolver> segments, @NotNull Map<String, Placeholder> placeholders) {
+        if (placeholders.isEmpty())
+            return;
+        segments.add(new MapPlaceholderResolver(Collections.unmodifiableMap(new HashMap<>(placeholders)), true));
+        placeholders.clear();
+    }
+}
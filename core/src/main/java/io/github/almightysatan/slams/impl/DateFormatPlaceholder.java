@@ -0,0 +1,161 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Component;
+import io.github.almightysatan.slams.Placeholder;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats the current time using a {@link SimpleDateFormat} pattern. Patterns are only compiled once: constant
+ * patterns in {@link #processArguments}, other patterns are kept in a bounded cache. Formatted values are cached until
+ * the smallest unit used by the pattern changes, i.e. for a second unless the pattern contains milliseconds.
+ */
+@ApiStatus.Internal
+public class DateFormatPlaceholder implements Placeholder {
+
+    private static final int MAX_CACHED_PATTERNS = 64;
+
+    private final String key;
+    private final Clock clock;
+    private final TimeZone timeZone;
+    private final Map<String, DateFormat> formats = new ConcurrentHashMap<>();
+
+    public DateFormatPlaceholder(@NotNull String key, @NotNull Clock clock) {
+        this.key = key;
+        this.clock = clock;
+        this.timeZone = TimeZone.getTimeZone(clock.getZone());
+    }
+
+    @Override
+    public @NotNull String key() {
+        return this.key;
+    }
+
+    @Override
+    public boolean constexpr() {
+        return false;
+    }
+
+    @Override
+    public @NotNull <T> Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments,
+            Component.@NotNull ValueFactory<T> factory) {
+        if (arguments.size() != 1)
+            return factory.component(INVALID_FORMAT, INVALID_FORMAT);
+        String pattern = arguments.get(0).stringValue();
+        DateFormat format = this.formats.get(pattern);
+        if (format == null) {
+            format = this.compile(pattern);
+            if (format == null)
+                return factory.component(INVALID_FORMAT, INVALID_FORMAT);
+            if (this.formats.size() < MAX_CACHED_PATTERNS)
+                this.formats.put(pattern, format);
+        }
+        String value = format.format(this.clock.millis());
+        return factory.component(value, value);
+    }
+
+    @Override
+    public <T> @Nullable ProcessedPlaceholder<T> processArguments(@Unmodifiable @NotNull List<@Nullable Argument<T>> arguments,
+            @NotNull Component.ValueFactory<T> factory) {
+        if (arguments.size() != 1)
+            return factory.processedPlaceholder(INVALID_FORMAT, INVALID_FORMAT);
+        if (arguments.get(0) == null)
+            return null;
+        DateFormat format = this.compile(arguments.get(0).stringValue());
+        if (format == null)
+            return factory.processedPlaceholder(INVALID_FORMAT, INVALID_FORMAT);
+        return (contexts, arguments0, factory0) -> {
+            String value = format.format(this.clock.millis());
+            return factory0.component(value, value);
+        };
+    }
+
+    private @Nullable DateFormat compile(@NotNull String pattern) {
+        try {
+            SimpleDateFormat format = new SimpleDateFormat(pattern);
+            format.setTimeZone(this.timeZone);
+            return new DateFormat(format, containsMilliseconds(pattern) ? 1 : 1000);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean containsMilliseconds(@NotNull String pattern) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'')
+                quoted = !quoted;
+            else if (!quoted && c == 'S')
+                return true;
+        }
+        return false;
+    }
+
+    private static class DateFormat {
+
+        private final SimpleDateFormat format;
+        private final long bucketMillis;
+        private volatile FormattedValue value;
+
+        private DateFormat(@NotNull SimpleDateFormat format, long bucketMillis) {
+            this.format = format;
+            this.bucketMillis = bucketMillis;
+        }
+
+        private @NotNull String format(long millis) {
+            long bucket = Math.floorDiv(millis, this.bucketMillis);
+            FormattedValue value = this.value;
+            if (value != null && value.bucket == bucket)
+                return value.value;
+
+            String formatted;
+            synchronized (this.format) { // SimpleDateFormat is not thread safe
+                formatted = this.format.format(new Date(millis));
+            }
+            this.value = new FormattedValue(bucket, formatted);
+            return formatted;
+        }
+    }
+
+    private static class FormattedValue {
+
+        private final long bucket;
+        private final String value;
+
+        private FormattedValue(long bucket, @NotNull String value) {
+            this.bucket = bucket;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.InMemoryInstrumentation;
+import io.github.almightysatan.slams.LanguageParser;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@ApiStatus.Internal
+public class InMemoryInstrumentationImpl implements InMemoryInstrumentation {
+
+    private final ConcurrentMap<String, HistogramImpl> renders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> placeholderMisses = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> missingTranslations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Integer, HistogramImpl>> parserLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, HistogramImpl> compiles = new ConcurrentHashMap<>();
+
+    @Override
+    public void render(@NotNull String path, long nanos) {
+        this.renders.computeIfAbsent(path, key -> new HistogramImpl()).record(nanos);
+    }
+
+    @Override
+    public void placeholderMiss(@NotNull String key) {
+        this.placeholderMisses.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void missingTranslation(@NotNull String language, @NotNull String path) {
+        this.missingTranslations.computeIfAbsent(language, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void parserLoad(@NotNull String language, int index, @NotNull LanguageParser parser, long nanos) {
+        this.parserLoads.computeIfAbsent(language, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(index, key -> new HistogramImpl()).record(nanos);
+    }
+
+    @Override
+    public void compile(@NotNull String language, int messages, long nanos) {
+        this.compiles.computeIfAbsent(language, key -> new HistogramImpl()).record(nanos);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Map<@NotNull String, @NotNull Histogram> renders() {
+        return Collections.unmodifiableMap(new HashMap<>(this.renders));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Map<@NotNull String, @NotNull Long> placeholderMisses() {
+        return counts(this.placeholderMisses);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Map<@NotNull String, @NotNull Long> missingTranslations() {
+        return counts(this.missingTranslations);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Map<@NotNull String, @NotNull @Unmodifiable List<@NotNull Histogram>> parserLoads() {
+        Map<String, List<Histogram>> parserLoads = new HashMap<>();
+        for (Map.Entry<String, ConcurrentMap<Integer, HistogramImpl>> entry : this.parserLoads.entrySet()) {
+            Map<Integer, HistogramImpl> histograms = entry.getValue();
+            int size = histograms.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+            List<Histogram> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+                list.add(histograms.getOrDefault(i, new HistogramImpl()));
+            parserLoads.put(entry.getKey(), Collections.unmodifiableList(list));
+        }
+        return Collections.unmodifiableMap(parserLoads);
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Map<@NotNull String, @NotNull Histogram> compiles() {
+        return Collections.unmodifiableMap(new HashMap<>(this.compiles));
+    }
+
+    @Override
+    public void reset() {
+        this.renders.clear();
+        this.placeholderMisses.clear();
+        this.missingTranslations.clear();
+        this.parserLoads.clear();
+        this.compiles.clear();
+    }
+
+    private static @NotNull Map<String, Long> counts(@NotNull Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet())
+            counts.put(entry.getKey(), entry.getValue().sum());
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static class HistogramImpl implements Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            nanos = Math.max(nanos, 0);
+            this.buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(nanos));
+            this.count.increment();
+            this.total.add(nanos);
+            this.min.accumulate(nanos);
+            this.max.accumulate(nanos);
+        }
+
+        @Override
+        public long count() {
+            return this.count.sum();
+        }
+
+        @Override
+        public long total() {
+            return this.total.sum();
+        }
+
+        @Override
+        public long min() {
+            long min = this.min.get();
+            return min == Long.MAX_VALUE ? 0 : min;
+        }
+
+        @Override
+        public long max() {
+            return this.max.get();
+        }
+
+        @Override
+        public long percentile(double percentile) {
+            if (percentile < 0 || percentile > 100)
+                throw new IllegalArgumentException("Percentile should be between 0 and 100");
+            long[] buckets = this.buckets();
+            long count = Arrays.stream(buckets).sum();
+            if (count == 0)
+                return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank)
+                    return Math.min(i == 0 ? 0 : (1L << i) - 1, this.max());
+            }
+            return this.max();
+        }
+
+        @Override
+        public long @NotNull [] buckets() {
+            long[] buckets = new long[this.buckets.length()];
+            for (int i = 0; i < buckets.length; i++)
+                buckets[i] = this.buckets.get(i);
+            return buckets;
+        }
+    }
+}
@@ -20,40 +20,132 @@
 
 package io.github.almightysatan.slams.impl;
 
+import io.github.almightysatan.slams.Instrumentation;
+import io.github.almightysatan.slams.InvalidTypeException;
 import io.github.almightysatan.slams.LanguageParser;
+import io.github.almightysatan.slams.MissingTranslationException;
+import io.github.almightysatan.slams.Translation;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
- * An internal class that represents a Language.
+ * An internal class that represents a Language. Instances are immutable, reloading a language creates a new
+ * {@link Language} that contains the loaded values and the {@link Translation Translations} of all messages.
  */
 @ApiStatus.Internal
 public class Language {
 
-    private final SlamsInternal languageManager;
+    private static final int CHUNK_SIZE = 64;
+
     private final String identifier;
     private final LanguageParser[] parsers;
-    private Map<String, Object> entries;
+    private final Map<String, Object> entries;
+    private final Map<MessageImpl<?>, Translation<?>> translations;
 
-    public Language(@NotNull SlamsInternal languageManager, @NotNull String identifier, @NotNull LanguageParser @NotNull ... parsers) throws IOException {
-        this.languageManager = languageManager;
+    private Language(@NotNull String identifier, @NotNull LanguageParser @NotNull [] parsers, @NotNull Map<String, Object> entries,
+            @NotNull Map<MessageImpl<?>, Translation<?>> translations) {
         this.identifier = identifier;
         this.parsers = parsers;
+        this.entries = entries;
+        this.translations = translations;
+    }
+
+    /**
+     * Loads a language and creates the {@link Translation Translations} of all given messages.
+     *
+     * @param identifier      the identifier of the language
+     * @param parsers         the {@link LanguageParser LanguageParsers} that should be used to load messages
+     * @param messages        all registered messages mapped to their paths
+     * @param instrumentation the {@link Instrumentation} that load and compile timings are reported to
+     * @return the new {@link Language}
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid
+     */
+    public static @NotNull Language load(@NotNull String identifier, @NotNull LanguageParser @NotNull [] parsers,
+            @Unmodifiable @NotNull Map<@NotNull String, @NotNull MessageImpl<?>> messages, @NotNull Instrumentation instrumentation) throws IOException, MissingTranslationException, InvalidTypeException {
+        Map<String, Object> entries = loadEntries(identifier, messages.keySet(), parsers, instrumentation);
+        return new Language(identifier, parsers, entries, compile(identifier, entries, messages.values(), null, null, instrumentation));
+    }
+
+    /**
+     * Loads multiple languages in parallel using the given {@link Executor}. The {@link LanguageParser LanguageParsers}
+     * of a single language are still run in sequential order. Creating the {@link Translation Translations} of all
+     * messages is split into multiple tasks that are run by the {@link Executor} as well.
+     *
+     * @param parsers         the {@link LanguageParser LanguageParsers} of each language mapped to the language's identifier
+     * @param messages        all registered messages mapped to their paths
+     * @param executor        the {@link Executor}
+     * @param instrumentation the {@link Instrumentation} that load and compile timings are reported to
+     * @return the new {@link Language Languages} mapped to their identifiers
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid
+     */
+    public static @NotNull Map<@NotNull String, @NotNull Language> loadAll(@NotNull Map<@NotNull String, @NotNull LanguageParser @NotNull []> parsers,
+            @Unmodifiable @NotNull Map<@NotNull String, @NotNull MessageImpl<?>> messages, @NotNull Executor executor,
+            @NotNull Instrumentation instrumentation) throws IOException, MissingTranslationException, InvalidTypeException {
+        List<MessageImpl<?>> messageList = new ArrayList<>(messages.values());
+        Map<String, CompletableFuture<Language>> futures = new HashMap<>();
+        for (Map.Entry<String, LanguageParser[]> entry : parsers.entrySet()) {
+            String identifier = entry.getKey();
+            LanguageParser[] languageParsers = entry.getValue();
+            futures.put(identifier, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loadEntries(identifier, messages.keySet(), languageParsers, instrumentation);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor).thenCompose(entries -> {
+                long start = System.nanoTime();
+                List<CompletableFuture<Map<MessageImpl<?>, Translation<?>>>> chunks = new ArrayList<>();
+                for (int i = 0; i < messageList.size(); i += CHUNK_SIZE) {
+                    List<MessageImpl<?>> chunk = messageList.subList(i, Math.min(i + CHUNK_SIZE, messageList.size()));
+                    chunks.add(CompletableFuture.supplyAsync(() -> translate(identifier, entries, chunk, null, null), executor));
+                }
+                return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).thenApply(v -> {
+                    Map<MessageImpl<?>, Translation<?>> translations = new IdentityHashMap<>(messageList.size());
+                    for (CompletableFuture<Map<MessageImpl<?>, Translation<?>>> chunk : chunks)
+                        translations.putAll(chunk.join());
+                    instrumentation.compile(identifier, messageList.size(), System.nanoTime() - start);
+                    return new Language(identifier, languageParsers, entries, translations);
+                });
+            }));
+        }
 
-        this.load();
+        Map<String, Language> languages = new HashMap<>();
+        for (Map.Entry<String, CompletableFuture<Language>> entry : futures.entrySet())
+            languages.put(entry.getKey(), join(entry.getValue()));
+        return languages;
     }
 
-    protected void load() throws IOException {
+    private static <T> T join(@NotNull CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException)
+                throw ((UncheckedIOException) cause).getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private static @NotNull Map<String, Object> loadEntries(@NotNull String identifier, @Unmodifiable @NotNull Set<@NotNull String> paths,
+            @NotNull LanguageParser @NotNull [] parsers, @NotNull Instrumentation instrumentation) throws IOException {
         Map<String, Object> entries = new HashMap<>();
-        Set<String> paths = this.languageManager.paths();
         LanguageParser.Values values = new LanguageParser.Values() {
             @Override
             public @NotNull @Unmodifiable Set<@NotNull String> paths() {
@@ -73,9 +165,79 @@ public class Language {
                 entries.put(key, value);
             }
         };
-        for (LanguageParser parser : this.parsers)
-            parser.load(values);
-        this.entries = entries;
+        boolean measure = instrumentation != Instrumentation.noop();
+        for (int i = 0; i < parsers.length; i++) {
+            long start = measure ? System.nanoTime() : 0;
+            parsers[i].load(values);
+            if (measure)
+                instrumentation.parserLoad(identifier, i, parsers[i], System.nanoTime() - start);
+        }
+        return entries;
+    }
+
+    private static @NotNull Map<MessageImpl<?>, Translation<?>> compile(@NotNull String identifier, @NotNull Map<String, Object> entries,
+            @NotNull Collection<@NotNull MessageImpl<?>> messages, @Nullable Language previous,
+            @Nullable Set<@NotNull String> changedPaths, @NotNull Instrumentation instrumentation) throws MissingTranslationException, InvalidTypeException {
+        long start = System.nanoTime();
+        Map<MessageImpl<?>, Translation<?>> translations = translate(identifier, entries, messages, previous, changedPaths);
+        instrumentation.compile(identifier, messages.size(), System.nanoTime() - start);
+        return translations;
+    }
+
+    private static @NotNull Map<MessageImpl<?>, Translation<?>> translate(@NotNull String identifier, @NotNull Map<String, Object> entries,
+            @NotNull Collection<@NotNull MessageImpl<?>> messages, @Nullable Language previous,
+            @Nullable Set<@NotNull String> changedPaths) throws MissingTranslationException, InvalidTypeException {
+        Map<MessageImpl<?>, Translation<?>> translations = new IdentityHashMap<>(messages.size());
+        for (MessageImpl<?> message : messages) {
+            Object rawValue = entries.get(message.path());
+            Translation<?> translation = previous != null ? previous.translations.get(message) : null;
+            if (translation == null || !Objects.deepEquals(rawValue, previous.entries.get(message.path()))) {
+                translation = message.toTranslation(identifier, rawValue);
+                if (changedPaths != null)
+                    changedPaths.add(message.path());
+            }
+            translations.put(message, translation);
+        }
+        return translations;
+    }
+
+    /**
+     * Loads this language again and returns the result as a new {@link Language}. This {@link Language} is not
+     * modified.
+     *
+     * @param messages        all registered messages mapped to their paths
+     * @param instrumentation the {@link Instrumentation} that load and compile timings are reported to
+     * @return the new {@link Language}
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid
+     */
+    public @NotNull Language reload(@Unmodifiable @NotNull Map<@NotNull String, @NotNull MessageImpl<?>> messages,
+            @NotNull Instrumentation instrumentation) throws IOException, MissingTranslationException, InvalidTypeException {
+        return load(this.identifier, this.parsers, messages, instrumentation);
+    }
+
+    /**
+     * Loads this language again and returns the result as a new {@link Language}. This {@link Language} is not
+     * modified. {@link Translation Translations} of this {@link Language} are reused if the value of their message
+     * did not change.
+     *
+     * @param messages        all registered messages mapped to their paths
+     * @param changedPaths    a {@link Set} that the paths of all messages that have been changed or added are added to
+     * @param instrumentation the {@link Instrumentation} that load and compile timings are reported to
+     * @return the new {@link Language}
+     * @throws IOException                 if a parser throws an exception
+     * @throws MissingTranslationException if a translation is missing
+     * @throws InvalidTypeException        if a translation's type is invalid
+     */
+    public @NotNull Language reloadChanged(@Unmodifiable @NotNull Map<@NotNull String, @NotNull MessageImpl<?>> messages,
+            @NotNull Set<@NotNull String> changedPaths, @NotNull Instrumentation instrumentation) throws IOException, MissingTranslationException, InvalidTypeException {
+        Map<String, Object> entries = loadEntries(this.identifier, messages.keySet(), this.parsers, instrumentation);
+        return new Language(this.identifier, this.parsers, entries, compile(this.identifier, entries, messages.values(), this, changedPaths, instrumentation));
+    }
+
+    public @NotNull LanguageParser @NotNull [] parsers() {
+        return this.parsers;
     }
 
     public @NotNull String identifier() {
@@ -85,4 +247,9 @@ public class Language {
     public @Nullable Object value(@NotNull String path) {
         return this.entries.get(path);
     }
+
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable Translation<T> translation(@NotNull MessageImpl<T> message) {
+        return (Translation<T>) this.translations.get(message);
+    }
 }
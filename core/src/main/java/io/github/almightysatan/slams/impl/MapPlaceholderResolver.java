@@ -0,0 +1,66 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * A {@link PlaceholderResolver} backed by a {@link Map}. Its entries can be merged with other
+ * {@link MapPlaceholderResolver MapPlaceholderResolvers} by {@link CompiledPlaceholderResolver#compile}. The
+ * {@link Map} of a resolver created by {@link PlaceholderResolver#builder()} is the builder's map, which may still
+ * change.
+ */
+@ApiStatus.Internal
+public class MapPlaceholderResolver implements PlaceholderResolver {
+
+    private final Map<String, Placeholder> placeholders;
+    private final boolean immutable;
+
+    public MapPlaceholderResolver(@NotNull Map<@NotNull String, @NotNull Placeholder> placeholders, boolean immutable) {
+        this.placeholders = placeholders;
+        this.immutable = immutable;
+    }
+
+    @Override
+    public @Nullable Placeholder resolve(@NotNull String key) {
+        return this.placeholders.get(key);
+    }
+
+    public @NotNull Map<@NotNull String, @NotNull Placeholder> placeholders() {
+        return this.placeholders;
+    }
+
+    /**
+     * Returns {@code true} if the {@link Map} can not change, so this resolver always resolves the same
+     * {@link Placeholder Placeholders}.
+     *
+     * @return whether this resolver is immutable
+     */
+    public boolean immutable() {
+        return this.immutable;
+    }
+}
@@ -25,8 +25,6 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.IdentityHashMap;
 import java.util.Objects;
 
 /**
@@ -39,7 +37,6 @@ public abstract class MessageImpl<T> implements Message<T> {
 
     private final String path;
     private final SlamsInternal languageManager;
-    private final IdentityHashMap<Language, Translation<T>> cache = new IdentityHashMap<>();
 
     protected MessageImpl(@NotNull String path, @NotNull Slams slams) {
         this.path = this.checkPath(path);
@@ -80,26 +77,74 @@ public abstract class MessageImpl<T> implements Message<T> {
         return this.path;
     }
 
+    /**
+     * Returns the language manager this message is registered with.
+     *
+     * @return the language manager
+     */
+    @NotNull SlamsInternal slams() {
+        return this.languageManager;
+    }
+
     @Override
     public @NotNull Translation<T> translate(@Nullable String language, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
         Language lang = this.languageManager.language(language);
-        Translation<T> value = this.cache.get(lang);
-        if (value == null)
+        Translation<T> value = lang.translation(this);
+        if (value == null) {
+            this.languageManager.instrumentation().missingTranslation(lang.identifier(), this.path);
             throw new MissingTranslationException(lang.identifier(), this.path);
+        }
         return value;
     }
 
-    protected abstract @NotNull Translation<T> toMessageValue(@NotNull Object value) throws InvalidTypeException;
-
-    protected void refreshTranslations(@NotNull Collection<@NotNull Language> languages, boolean clear) throws MissingTranslationException, InvalidTypeException {
-        if (clear)
-            this.cache.clear();
+    @Override
+    public @NotNull T value(@Nullable String language, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws MissingTranslationException, UnknownLanguageException {
+        return this.render(this.translate(language, contexts), placeholderResolver, contexts, Translation::value);
+    }
 
-        for (Language language : languages) {
-            Object rawValue = language.value(this.path);
-            if (rawValue == null)
-                throw new MissingTranslationException(language.identifier(), this.path);
-            this.cache.put(language, this.toMessageValue(rawValue));
+    /**
+     * Renders the given {@link Translation} of this message using the given {@link Renderer} and reports the render
+     * to the {@link Instrumentation}. Used to render a value in a form other than {@link #value(String, PlaceholderResolver, Object...)}
+     * without bypassing the instrumentation.
+     *
+     * @param translation         a translation of this message
+     * @param placeholderResolver the local {@link PlaceholderResolver}
+     * @param contexts            the contexts
+     * @param renderer            renders the translation
+     * @param <R>                 the type of the rendered value
+     * @return the rendered value
+     */
+    public <R> @NotNull R render(@NotNull Translation<T> translation, @NotNull PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts, @NotNull Renderer<T, R> renderer) {
+        Instrumentation instrumentation = this.languageManager.instrumentation();
+        if (instrumentation == Instrumentation.noop())
+            return renderer.render(translation, placeholderResolver, contexts);
+
+        long start = System.nanoTime();
+        try {
+            return renderer.render(translation, placeholderResolver, contexts);
+        } finally {
+            instrumentation.render(this.path, System.nanoTime() - start);
         }
     }
+
+    /**
+     * Renders a {@link Translation}.
+     *
+     * @param <T> the type of the translation's value
+     * @param <R> the type of the rendered value
+     */
+    @FunctionalInterface
+    public interface Renderer<T, R> {
+
+        @NotNull R render(@NotNull Translation<T> translation, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts);
+    }
+
+    protected abstract @NotNull Translation<T> toMessageValue(@NotNull Object value) throws InvalidTypeException;
+
+    protected @NotNull Translation<T> toTranslation(@NotNull String languageIdentifier, @Nullable Object rawValue) throws MissingTranslationException, InvalidTypeException {
+        if (rawValue == null)
+            throw new MissingTranslationException(languageIdentifier, this.path);
+        return this.toMessageValue(rawValue);
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Placeholder;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Numeric evaluation used by the built-in placeholders. Operands are {@link Number Numbers}: {@link Long},
+ * {@link Integer}, {@link Short} and {@link Byte} are treated as exact integers and use {@code long} arithmetic,
+ * {@link Double Doubles} are compared as {@code double}. Everything else (and any integer operation that overflows) is
+ * evaluated using {@link BigDecimal}. The results are identical to parsing the string values of the operands as
+ * {@link BigDecimal BigDecimals}.
+ */
+@ApiStatus.Internal
+public final class Numbers {
+
+    private static final int MAX_LONG_DIGITS = 18; // every 18 digit number fits into a long
+
+    private Numbers() {
+    }
+
+    /**
+     * Returns the numeric value of the given {@link Placeholder.Argument}. Uses its raw value if it is a
+     * {@link Number} and parses its string value otherwise.
+     *
+     * @param argument the argument
+     * @return the numeric value
+     * @throws NumberFormatException if the argument is not a number
+     */
+    public static @NotNull Number operand(@NotNull Placeholder.Argument<?> argument) throws NumberFormatException {
+        Object raw = argument.rawValue();
+        if (raw instanceof Number)
+            return (Number) raw;
+        // the string value of a component with a raw CharSequence is its raw value, this avoids evaluating it again
+        return parse(raw instanceof CharSequence ? raw.toString() : argument.stringValue());
+    }
+
+    /**
+     * Parses the given string. Returns a {@link Long} if the string is a plain integer that fits into a {@code long}
+     * and a {@link BigDecimal} otherwise.
+     *
+     * @param input the string
+     * @return the numeric value
+     * @throws NumberFormatException if the input is not a number
+     */
+    public static @NotNull Number parse(@NotNull String input) throws NumberFormatException {
+        int length = input.length();
+        int start = length > 0 && (input.charAt(0) == '-' || input.charAt(0) == '+') ? 1 : 0;
+        if (length > start && length - start <= MAX_LONG_DIGITS) {
+            long value = 0;
+            int i = start;
+            for (; i < length; i++) {
+                char c = input.charAt(i);
+                if (c < '0' || c > '9')
+                    break;
+                value = value * 10 + (c - '0');
+            }
+            if (i == length)
+                return input.charAt(0) == '-' ? -value : value;
+        }
+        return new BigDecimal(input);
+    }
+
+    /**
+     * Compares two operands.
+     *
+     * @param a the first operand
+     * @param b the second operand
+     * @return a negative number, zero or a positive number if {@code a} is less than, equal to or greater than
+     * {@code b}
+     * @throws NumberFormatException if an operand is not finite
+     */
+    public static int compare(@NotNull Number a, @NotNull Number b) throws NumberFormatException {
+        if (isIntegral(a) && isIntegral(b))
+            return Long.compare(a.longValue(), b.longValue());
+        if (a instanceof Double && b instanceof Double) {
+            double x = a.doubleValue();
+            double y = b.doubleValue();
+            if (Double.isFinite(x) && Double.isFinite(y))
+                return x < y ? -1 : (x > y ? 1 : 0); // unlike Double#compare this treats 0.0 and -0.0 as equal
+        }
+        return toBigDecimal(a).compareTo(toBigDecimal(b));
+    }
+
+    /**
+     * Applies an arithmetic operation and returns the result as a plain string.
+     *
+     * @param a         the first operand
+     * @param b         the second operand
+     * @param exact     the operation on {@code long} values. Should throw an {@link ArithmeticException} if the
+     *                  result can not be represented exactly
+     * @param operation the operation on {@link BigDecimal} values
+     * @return the result
+     * @throws NumberFormatException if an operand is not finite
+     */
+    public static @NotNull String apply(@NotNull Number a, @NotNull Number b, @NotNull LongBinaryOperator exact,
+            @NotNull BinaryOperator<BigDecimal> operation) throws NumberFormatException {
+        if (isIntegral(a) && isIntegral(b)) {
+            try {
+                return Long.toString(exact.applyAsLong(a.longValue(), b.longValue()));
+            } catch (ArithmeticException ignored) {
+                // fall back to BigDecimal
+            }
+        }
+        return operation.apply(toBigDecimal(a), toBigDecimal(b)).toPlainString();
+    }
+
+    /**
+     * Divides two {@code long} values. Throws an {@link ArithmeticException} if the result is not an integer.
+     *
+     * @param a the dividend
+     * @param b the divisor
+     * @return the quotient
+     */
+    public static long divideExact(long a, long b) {
+        if (b == 0 || a % b != 0 || (a == Long.MIN_VALUE && b == -1))
+            throw new ArithmeticException();
+        return a / b;
+    }
+
+    private static boolean isIntegral(@NotNull Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static @NotNull BigDecimal toBigDecimal(@NotNull Number number) throws NumberFormatException {
+        if (number instanceof BigDecimal)
+            return (BigDecimal) number;
+        if (isIntegral(number))
+            return BigDecimal.valueOf(number.longValue());
+        if (number instanceof Double) {
+            double value = number.doubleValue();
+            if (!Double.isFinite(value))
+                throw new NumberFormatException();
+            return BigDecimal.valueOf(value);
+        }
+        if (number instanceof BigInteger)
+            return new BigDecimal((BigInteger) number);
+        return new BigDecimal(number.toString());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Component;
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.Placeholder.ProcessedPlaceholder;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+
+/**
+ * {@link ProcessedPlaceholder ProcessedPlaceholders} whose result is known when a message is loaded. Implementations
+ * can replace them with their result instead of evaluating them whenever the message is rendered.
+ */
+@ApiStatus.Internal
+public interface PartialEvaluation {
+
+    /**
+     * Always returns the same {@link Component}.
+     *
+     * @param <T> the result type
+     */
+    class Constant<T> implements ProcessedPlaceholder<T> {
+
+        private final Component<T> component;
+
+        public Constant(@NotNull Component<T> component) {
+            this.component = component;
+        }
+
+        public @NotNull Component<T> component() {
+            return this.component;
+        }
+
+        @Override
+        public @NotNull Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<Placeholder.@NotNull Argument<T>> arguments,
+                Component.@NotNull ValueFactory<T> factory) {
+            return this.component;
+        }
+    }
+
+    /**
+     * Always returns the argument at a fixed index.
+     *
+     * @param <T> the result type
+     */
+    class Selection<T> implements ProcessedPlaceholder<T> {
+
+        private final int index;
+
+        public Selection(int index) {
+            this.index = index;
+        }
+
+        public int index() {
+            return this.index;
+        }
+
+        @Override
+        public @NotNull Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<Placeholder.@NotNull Argument<T>> arguments,
+                Component.@NotNull ValueFactory<T> factory) {
+            return arguments.get(this.index);
+        }
+    }
+}
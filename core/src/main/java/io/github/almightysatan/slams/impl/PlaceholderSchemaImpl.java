@@ -0,0 +1,66 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.PlaceholderSchema;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+
+@ApiStatus.Internal
+public class PlaceholderSchemaImpl implements PlaceholderSchema {
+
+    private final List<String> keys;
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    public PlaceholderSchemaImpl(@NotNull String @NotNull [] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            String key = Objects.requireNonNull(keys[i]);
+            if (key.isEmpty())
+                throw new IllegalArgumentException("Key should not be empty!");
+            if (this.slots.put(key, i) != null)
+                throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+        this.keys = Collections.unmodifiableList(Arrays.asList(keys.clone()));
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<@NotNull String> keys() {
+        return this.keys;
+    }
+
+    @Override
+    public int slot(@NotNull String key) {
+        Integer slot = this.slots.get(key);
+        return slot != null ? slot : -1;
+    }
+
+    @Override
+    public @NotNull PlaceholderResolver bind(@Nullable Object @NotNull ... values) {
+        if (values.length != this.keys.size())
+            throw new IllegalArgumentException(String.format("Expected %d values but got %d", this.keys.size(), values.length));
+        return new BoundPlaceholderResolver(this, values.clone());
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.impl;
+
+import io.github.almightysatan.slams.Component;
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.ReusablePlaceholderResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An open-addressing hash table with linear probing. Each bucket holds a {@link Slot} that is reused after
+ * {@link #reset()}, so filling a pooled instance with primitive values does not allocate.
+ */
+@ApiStatus.Internal
+public class ReusablePlaceholderResolverImpl implements ReusablePlaceholderResolver {
+
+    private static final ThreadLocal<ArrayDeque<ReusablePlaceholderResolverImpl>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final int MAX_POOL_SIZE = 16;
+    private static final int INITIAL_CAPACITY = 8; // must be a power of two
+
+    private static final byte OBJECT = 0;
+    private static final byte PLACEHOLDER = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+
+    private final ArrayDeque<ReusablePlaceholderResolverImpl> pool;
+    private Slot[] slots;
+    private int size;
+    private boolean closed;
+
+    public ReusablePlaceholderResolverImpl(@Nullable ArrayDeque<ReusablePlaceholderResolverImpl> pool) {
+        this.pool = pool;
+        this.slots = newSlots(INITIAL_CAPACITY);
+    }
+
+    public static @NotNull ReusablePlaceholderResolverImpl acquire() {
+        ArrayDeque<ReusablePlaceholderResolverImpl> pool = POOL.get();
+        ReusablePlaceholderResolverImpl resolver = pool.poll();
+        if (resolver == null)
+            return new ReusablePlaceholderResolverImpl(pool);
+        resolver.closed = false;
+        return resolver;
+    }
+
+    @Override
+    public @Nullable Placeholder resolve(@NotNull String key) {
+        Slot[] slots = this.slots;
+        int mask = slots.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Slot slot = slots[i];
+            if (slot.key == null)
+                return null;
+            if (slot.key.equals(key))
+                return slot;
+        }
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver add(@NotNull Placeholder placeholder) {
+        Slot slot = this.slot(placeholder.key());
+        slot.kind = PLACEHOLDER;
+        slot.object = placeholder;
+        return this;
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver set(@NotNull String key, @NotNull Object value) {
+        Slot slot = this.slot(key);
+        slot.kind = OBJECT;
+        slot.object = Objects.requireNonNull(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver set(@NotNull String key, int value) {
+        return this.setPrimitive(key, INT, value);
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver set(@NotNull String key, long value) {
+        return this.setPrimitive(key, LONG, value);
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver set(@NotNull String key, double value) {
+        return this.setPrimitive(key, DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver set(@NotNull String key, boolean value) {
+        return this.setPrimitive(key, BOOLEAN, value ? 1 : 0);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public @NotNull ReusablePlaceholderResolver reset() {
+        if (this.size != 0) {
+            for (Slot slot : this.slots) {
+                slot.key = null;
+                slot.object = null;
+            }
+            this.size = 0;
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed)
+            return;
+        this.reset();
+        this.closed = this.pool != null;
+        if (this.pool != null && this.pool.size() < MAX_POOL_SIZE)
+            this.pool.push(this);
+    }
+
+    /**
+     * Returns an immutable copy of the current values. Used if the values must outlive the current render, e.g. when
+     * rendering asynchronously.
+     *
+     * @return a new {@link PlaceholderResolver}
+     */
+    public @NotNull PlaceholderResolver snapshot() {
+        Map<String, Placeholder> placeholders = new HashMap<>();
+        for (Slot slot : this.slots)
+            if (slot.key != null)
+                placeholders.put(slot.key, slot.kind == PLACEHOLDER ? (Placeholder) slot.object : Placeholder.constant(slot.key, slot.rawValue()));
+        return new MapPlaceholderResolver(placeholders, true);
+    }
+
+    private @NotNull ReusablePlaceholderResolver setPrimitive(@NotNull String key, byte kind, long bits) {
+        Slot slot = this.slot(key);
+        slot.kind = kind;
+        slot.object = null;
+        slot.bits = bits;
+        return this;
+    }
+
+    /**
+     * Returns the {@link Slot} of the given key. Claims an empty {@link Slot} if the key does not exist yet.
+     */
+    private @NotNull Slot slot(@NotNull String key) {
+        if (key.isEmpty())
+            throw new IllegalArgumentException("Key should not be empty!");
+        if (this.closed)
+            throw new IllegalStateException("Resolver has been closed");
+        if ((this.size + 1) * 2 > this.slots.length)
+            this.grow();
+
+        Slot[] slots = this.slots;
+        int mask = slots.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Slot slot = slots[i];
+            if (slot.key == null) {
+                slot.key = key;
+                this.size++;
+                return slot;
+            }
+            if (slot.key.equals(key))
+                return slot;
+        }
+    }
+
+    private void grow() {
+        Slot[] old = this.slots;
+        Slot[] slots = newSlots(old.length * 2);
+        int mask = slots.length - 1;
+        for (Slot slot : old) {
+            if (slot.key == null)
+                continue;
+            int i = hash(slot.key) & mask;
+            while (slots[i].key != null)
+                i = (i + 1) & mask;
+            slots[i] = slot; // keeps the cached components of the slot
+        }
+        for (int i = 0; i < slots.length; i++)
+            if (slots[i] == null)
+                slots[i] = new Slot();
+        this.slots = slots;
+    }
+
+    private static @NotNull Slot[] newSlots(int capacity) {
+        Slot[] slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++)
+            slots[i] = new Slot();
+        return slots;
+    }
+
+    private static int hash(@NotNull String key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A bucket of the table. A {@link Slot} is the {@link Placeholder} returned for its key. The {@link Component}
+     * returned by a {@link Slot} reads the slot's current value and is cached for the last used
+     * {@link Component.ValueFactory}.
+     */
+    private static class Slot implements Placeholder {
+
+        private String key;
+        private byte kind;
+        private Object object;
+        private long bits;
+        private Component.ValueFactory<?> factory;
+        private SlotComponent<?> component;
+
+        @Override
+        public @NotNull String key() {
+            return this.key;
+        }
+
+        @Override
+        public boolean constexpr() {
+            return false; // the value changes whenever the resolver is reused
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public @NotNull <T> Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments,
+                Component.@NotNull ValueFactory<T> factory) {
+            if (this.kind == PLACEHOLDER)
+                return ((Placeholder) this.object).value(contexts, arguments, factory);
+            if (this.factory != factory) {
+                this.component = new SlotComponent<>(this, factory);
+                this.factory = factory;
+            }
+            return (Component<T>) this.component;
+        }
+
+        private @NotNull String stringValue() {
+            switch (this.kind) {
+                case INT:
+                case LONG:
+                    return Long.toString(this.bits);
+                case DOUBLE:
+                    return Double.toString(Double.longBitsToDouble(this.bits));
+                case BOOLEAN:
+                    return this.bits != 0 ? "true" : "false";
+                default:
+                    return String.valueOf(this.object);
+            }
+        }
+
+        private @Nullable Object rawValue() {
+            switch (this.kind) {
+                case INT:
+                    return (int) this.bits;
+                case LONG:
+                    return this.bits;
+                case DOUBLE:
+                    return Double.longBitsToDouble(this.bits);
+                case BOOLEAN:
+                    return this.bits != 0;
+                default:
+                    return this.object;
+            }
+        }
+
+        private void writeTo(@NotNull Appendable appendable) throws IOException {
+            if (appendable instanceof StringBuilder) {
+                StringBuilder builder = (StringBuilder) appendable;
+                switch (this.kind) {
+                    case INT:
+                    case LONG:
+                        builder.append(this.bits);
+                        return;
+                    case DOUBLE:
+                        builder.append(Double.longBitsToDouble(this.bits));
+                        return;
+                    case BOOLEAN:
+                        builder.append(this.bits != 0);
+                        return;
+                }
+            }
+            appendable.append(this.stringValue());
+        }
+    }
+
+    private static class SlotComponent<T> implements Component<T> {
+
+        private final Slot slot;
+        private final Component.ValueFactory<T> factory;
+
+        private SlotComponent(@NotNull Slot slot, @NotNull Component.ValueFactory<T> factory) {
+            this.slot = slot;
+            this.factory = factory;
+        }
+
+        @Override
+        public @NotNull T value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            return this.factory.value(this.slot.stringValue());
+        }
+
+        @Override
+        public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            return this.slot.stringValue();
+        }
+
+        @Override
+        public @Nullable Object rawValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            return this.slot.rawValue();
+        }
+
+        @Override
+        public void writeTo(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts,
+                @NotNull Appendable appendable) throws IOException {
+            this.slot.writeTo(appendable);
+        }
+
+        @Override
+        public boolean constexpr() {
+            return false;
+        }
+    }
+}
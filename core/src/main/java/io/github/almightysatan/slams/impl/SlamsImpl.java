@@ -20,6 +20,7 @@
 
 package io.github.almightysatan.slams.impl;
 
+import io.github.almightysatan.slams.Instrumentation;
 import io.github.almightysatan.slams.InvalidTypeException;
 import io.github.almightysatan.slams.LanguageParser;
 import io.github.almightysatan.slams.MissingTranslationException;
@@ -31,29 +32,34 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
- * An implementation of the {@link SlamsInternal} interface.
+ * An implementation of the {@link SlamsInternal} interface. Languages are stored in an immutable {@link Snapshot}.
+ * Loading or reloading languages builds a new {@link Snapshot} that replaces the current one once it is complete.
+ * Threads translating messages therefore never block and never see partially loaded languages.
  */
 @ApiStatus.Internal
 public class SlamsImpl implements SlamsInternal {
 
     private final Map<String, MessageImpl<?>> entries;
     private final String defaultLanguageIdentifier;
-    private Language defaultLanguage;
-    private final Map<String, Language> languages;
+    private final Instrumentation instrumentation;
+    private final Set<ReloadListener> reloadListeners = Collections.newSetFromMap(new WeakHashMap<>());
+    private volatile Snapshot snapshot;
 
-    public SlamsImpl(@NotNull String defaultLanguageIdentifier) {
-        this.entries = new HashMap<>();
+    public SlamsImpl(@NotNull String defaultLanguageIdentifier, @NotNull Instrumentation instrumentation) {
+        this.entries = new ConcurrentHashMap<>();
         this.defaultLanguageIdentifier = defaultLanguageIdentifier;
-        this.languages = new HashMap<>();
+        this.instrumentation = instrumentation;
+        this.snapshot = new Snapshot(Collections.emptyMap(), null);
     }
 
     @Override
     public void register(@NotNull MessageImpl<?> entry) {
-        if (this.entries.containsKey(entry.path()))
+        if (this.entries.putIfAbsent(entry.path(), entry) != null)
             throw new IllegalArgumentException("Duplicate path: " + entry.path());
-        this.entries.put(entry.path(), entry);
     }
 
     @Override
@@ -62,39 +68,104 @@ public class SlamsImpl implements SlamsInternal {
     }
 
     @Override
-    public void load(@NotNull String identifier, @NotNull LanguageParser @NotNull ... parsers) throws IOException, MissingTranslationException, InvalidTypeException {
+    public synchronized void load(@NotNull String identifier, @NotNull LanguageParser @NotNull ... parsers) throws IOException, MissingTranslationException, InvalidTypeException {
         if (identifier.isEmpty())
             throw new IllegalArgumentException("Empty language identifier");
-        if (this.languages.containsKey(identifier))
+        Map<String, Language> languages = new HashMap<>(this.snapshot.languages);
+        if (languages.containsKey(identifier))
             throw new IllegalArgumentException("Duplicate language identifier");
 
-        Language language = new Language(this, identifier, parsers);
-        this.languages.put(identifier, language);
-        Collection<Language> languageCollection = Collections.singleton(language);
-        for (MessageImpl<?> entry : this.entries.values())
-            entry.refreshTranslations(languageCollection, false);
+        languages.put(identifier, Language.load(identifier, parsers, this.messages(), this.instrumentation));
+        this.publish(languages);
     }
 
     @Override
-    public void reload() throws IOException, MissingTranslationException, InvalidTypeException {
-        Collection<Language> languages = Collections.unmodifiableCollection(this.languages.values());
-        for (Language language : languages)
-            language.load();
-        for (MessageImpl<?> entry : this.entries.values())
-            entry.refreshTranslations(languages, true);
+    public synchronized void loadAll(@NotNull Map<@NotNull String, @NotNull LanguageParser @NotNull []> parsers, @NotNull Executor executor) throws IOException, MissingTranslationException, InvalidTypeException {
+        Objects.requireNonNull(executor);
+        Map<String, Language> languages = new HashMap<>(this.snapshot.languages);
+        for (String identifier : parsers.keySet()) {
+            if (identifier.isEmpty())
+                throw new IllegalArgumentException("Empty language identifier");
+            if (languages.containsKey(identifier))
+                throw new IllegalArgumentException("Duplicate language identifier");
+        }
+
+        languages.putAll(Language.loadAll(parsers, this.messages(), executor, this.instrumentation));
+        this.publish(languages);
+    }
+
+    @Override
+    public synchronized void reload() throws IOException, MissingTranslationException, InvalidTypeException {
+        Map<String, MessageImpl<?>> messages = this.messages();
+        Map<String, Language> languages = new HashMap<>();
+        for (Language language : this.snapshot.languages.values())
+            languages.put(language.identifier(), language.reload(messages, this.instrumentation));
+        this.publish(languages);
+    }
+
+    @Override
+    public synchronized void reload(@NotNull Executor executor) throws IOException, MissingTranslationException, InvalidTypeException {
+        Objects.requireNonNull(executor);
+        Map<String, LanguageParser[]> parsers = new HashMap<>();
+        for (Language language : this.snapshot.languages.values())
+            parsers.put(language.identifier(), language.parsers());
+        this.publish(Language.loadAll(parsers, this.messages(), executor, this.instrumentation));
+    }
+
+    @Override
+    public synchronized @NotNull @Unmodifiable Map<@NotNull String, @NotNull @Unmodifiable Set<@NotNull String>> reloadChanged() throws IOException, MissingTranslationException, InvalidTypeException {
+        Map<String, MessageImpl<?>> messages = this.messages();
+        Map<String, Language> languages = new HashMap<>();
+        Map<String, Set<String>> changedPaths = new HashMap<>();
+        for (Language language : this.snapshot.languages.values()) {
+            Set<String> paths = new HashSet<>();
+            languages.put(language.identifier(), language.reloadChanged(messages, paths, this.instrumentation));
+            changedPaths.put(language.identifier(), Collections.unmodifiableSet(paths));
+        }
+        this.publish(languages);
+        return Collections.unmodifiableMap(changedPaths);
+    }
+
+    /**
+     * Returns a copy of all registered messages. Messages registered while languages are being loaded are not
+     * included and require another reload.
+     *
+     * @return all registered messages mapped to their paths
+     */
+    private @Unmodifiable @NotNull Map<@NotNull String, @NotNull MessageImpl<?>> messages() {
+        return Collections.unmodifiableMap(new HashMap<>(this.entries));
+    }
+
+    private void publish(@NotNull Map<@NotNull String, @NotNull Language> languages) {
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(languages), languages.get(this.defaultLanguageIdentifier));
+        List<ReloadListener> listeners;
+        synchronized (this.reloadListeners) {
+            listeners = new ArrayList<>(this.reloadListeners);
+        }
+        for (ReloadListener listener : listeners)
+            listener.reloaded();
+    }
+
+    @Override
+    public void addReloadListener(@NotNull ReloadListener listener) {
+        Objects.requireNonNull(listener);
+        synchronized (this.reloadListeners) {
+            this.reloadListeners.add(listener);
+        }
     }
 
     @Override
     public @NotNull Collection<@NotNull String> languages() {
-        return Collections.unmodifiableCollection(this.languages.keySet());
+        return this.snapshot.languages.keySet();
     }
 
     @Override
     public @NotNull Language language(@Nullable String identifier) throws UnknownLanguageException {
+        Snapshot snapshot = this.snapshot;
         if (identifier == null)
-            return this.defaultLanguage();
+            return snapshot.defaultLanguage(this.defaultLanguageIdentifier);
 
-        Language language = this.languages.get(identifier);
+        Language language = snapshot.languages.get(identifier);
         if (language == null)
             throw new UnknownLanguageException(identifier);
         return language;
@@ -105,17 +176,33 @@ public class SlamsImpl implements SlamsInternal {
         return this.defaultLanguageIdentifier;
     }
 
+    @Override
+    public @NotNull Instrumentation instrumentation() {
+        return this.instrumentation;
+    }
+
     @Override
     public @NotNull Language defaultLanguage() throws UnknownLanguageException {
-        Language defaultLanguage = this.defaultLanguage;
+        return this.snapshot.defaultLanguage(this.defaultLanguageIdentifier);
+    }
 
-        if (defaultLanguage == null) {
-            defaultLanguage = this.languages.get(this.defaultLanguageIdentifier);
-            if (defaultLanguage == null)
-                throw new UnknownLanguageException(this.defaultLanguageIdentifier);
+    /**
+     * An immutable set of loaded languages.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, Language> languages;
+        private final Language defaultLanguage;
+
+        private Snapshot(@Unmodifiable @NotNull Map<@NotNull String, @NotNull Language> languages, @Nullable Language defaultLanguage) {
+            this.languages = languages;
             this.defaultLanguage = defaultLanguage;
         }
 
-        return defaultLanguage;
+        private @NotNull Language defaultLanguage(@NotNull String identifier) throws UnknownLanguageException {
+            if (this.defaultLanguage == null)
+                throw new UnknownLanguageException(identifier);
+            return this.defaultLanguage;
+        }
     }
 }
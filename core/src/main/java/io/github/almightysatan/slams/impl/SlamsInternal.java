@@ -42,4 +42,23 @@ public interface SlamsInternal extends Slams {
     @NotNull Language language(@Nullable String identifier) throws UnknownLanguageException;
 
     @NotNull Language defaultLanguage() throws UnknownLanguageException;
+
+    /**
+     * Registers a {@link ReloadListener} that is notified whenever languages are loaded or reloaded. Listeners are
+     * only weakly referenced.
+     *
+     * @param listener the listener
+     */
+    void addReloadListener(@NotNull ReloadListener listener);
+
+    /**
+     * Notified whenever languages are loaded or reloaded.
+     */
+    interface ReloadListener {
+
+        /**
+         * Called after new {@link Language Languages} have been published.
+         */
+        void reloaded();
+    }
 }
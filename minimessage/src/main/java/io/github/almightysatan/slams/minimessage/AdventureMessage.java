@@ -29,7 +29,6 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
 
 /**
  * Represents a message parsed in MiniMessage format.
@@ -46,7 +45,7 @@ public interface AdventureMessage extends AdventureGenericMessage<Component> {
      * @return a new {@link AdventureMessage}
      */
     static @NotNull AdventureMessage of(@NotNull String path, @NotNull Slams slams, @NotNull TagResolver tagResolver) {
-        Objects.requireNonNull(tagResolver);
+        MessageTagResolver messageTagResolver = new MessageTagResolver(tagResolver);
         class AdventureMessageImpl extends MessageImpl<Component> implements AdventureMessage {
 
             protected AdventureMessageImpl() {
@@ -55,7 +54,7 @@ public interface AdventureMessage extends AdventureGenericMessage<Component> {
 
             @Override
             protected @NotNull AdventureTranslation<Component> toMessageValue(@NotNull Object value) {
-                return AdventureTypes.messageValue(tagResolver, value);
+                return AdventureTypes.messageValue(messageTagResolver, value);
             }
 
             @Override
@@ -28,7 +28,6 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
 
 /**
  * Represents an array of messages parsed in MiniMessage format.
@@ -48,7 +47,7 @@ public interface AdventureMessageArray extends AdventureGenericMessage<Component
      * @return a new {@link AdventureMessageArray}
      */
     static @NotNull AdventureMessageArray of(@NotNull String path, @NotNull Slams slams, @NotNull TagResolver tagResolver) {
-        Objects.requireNonNull(tagResolver);
+        MessageTagResolver messageTagResolver = new MessageTagResolver(tagResolver);
         class AdventureMessageArrayImpl extends MessageImpl<Component[]> implements AdventureMessageArray {
 
             protected AdventureMessageArrayImpl() {
@@ -57,7 +56,7 @@ public interface AdventureMessageArray extends AdventureGenericMessage<Component
 
             @Override
             protected @NotNull Translation<Component[]> toMessageValue(@NotNull Object value) {
-                return AdventureTypes.messageArrayValue(value, Component[]::new, element -> AdventureTypes.messageValue(tagResolver, element));
+                return AdventureTypes.messageArrayValue(messageTagResolver, value, Component[]::new, element -> AdventureTypes.messageValue(messageTagResolver, element));
             }
 
             @Override
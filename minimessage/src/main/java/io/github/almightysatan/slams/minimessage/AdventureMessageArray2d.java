@@ -28,7 +28,6 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
 
 /**
  * Represents an array of messages parsed in MiniMessage format. The value of this message is a two-dimensional array of
@@ -48,7 +47,7 @@ public interface AdventureMessageArray2d extends AdventureGenericMessage<Compone
      * @return a new {@link AdventureMessageArray2d}
      */
     static @NotNull AdventureMessageArray2d of(@NotNull String path, @NotNull Slams slams, @NotNull TagResolver tagResolver) {
-        Objects.requireNonNull(tagResolver);
+        MessageTagResolver messageTagResolver = new MessageTagResolver(tagResolver);
         class AdventureMessageArray2dImpl extends MessageImpl<Component[][]> implements AdventureMessageArray2d {
 
             protected AdventureMessageArray2dImpl() {
@@ -57,9 +56,9 @@ public interface AdventureMessageArray2d extends AdventureGenericMessage<Compone
 
             @Override
             protected @NotNull Translation<Component[][]> toMessageValue(@NotNull Object value) {
-                return AdventureTypes.messageArrayValue(value, Component[][]::new, element0 ->
-                        AdventureTypes.messageArrayValue(element0, Component[]::new, element1 ->
-                                AdventureTypes.messageValue(tagResolver, element1)));
+                return AdventureTypes.messageArrayValue(messageTagResolver, value, Component[][]::new, element0 ->
+                        AdventureTypes.messageArrayValue(messageTagResolver, element0, Component[]::new, element1 ->
+                                AdventureTypes.messageValue(messageTagResolver, element1)));
             }
 
             @Override
@@ -28,7 +28,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Represents a {@link Message} in MiniMessage format. The value of this message is a {@link Map}. The Map's value is
@@ -69,7 +68,7 @@ public interface AdventureMessageMap<K> extends AdventureGenericMessage<Map<K, C
      * @return a new {@link AdventureMessageMap}
      */
     static <K> @NotNull AdventureMessageMap<K> of(@NotNull String path, @NotNull Slams slams, Class<K> keyType, @NotNull TagResolver tagResolver) {
-        Objects.requireNonNull(tagResolver);
+        MessageTagResolver messageTagResolver = new MessageTagResolver(tagResolver);
         class AdventureMessageMapImpl extends MessageImpl<Map<K, Component>> implements AdventureMessageMap<K> {
 
             protected AdventureMessageMapImpl() {
@@ -78,7 +77,7 @@ public interface AdventureMessageMap<K> extends AdventureGenericMessage<Map<K, C
 
             @Override
             protected @NotNull TranslationMap<K, Component, AdventureTranslation<Component>> toMessageValue(@NotNull Object value) {
-                return AdventureTypes.messageMapValue(value, keyType, element -> AdventureTypes.messageValue(tagResolver, element));
+                return AdventureTypes.messageMapValue(messageTagResolver, value, keyType, element -> AdventureTypes.messageValue(messageTagResolver, element));
             }
 
             @Override
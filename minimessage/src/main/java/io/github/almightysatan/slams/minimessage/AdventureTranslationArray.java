@@ -20,13 +20,45 @@
 
 package io.github.almightysatan.slams.minimessage;
 
+import io.github.almightysatan.slams.PlaceholderResolver;
 import io.github.almightysatan.slams.TranslationArray;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
- * Represents an array of {@link AdventureTranslation AdventureTranslations}.
+ * Represents an array of {@link AdventureTranslation AdventureTranslations}. All elements of the array are rendered
+ * as a single batch, placeholders with the same name and arguments are only evaluated once per batch.
  *
  * @param <T> the type of this translation
  * @param <U> the {@link AdventureTranslation AdventureTranslations} in this array
  */
 public interface AdventureTranslationArray<T, U extends AdventureTranslation<T>> extends TranslationArray<T, U>, AdventureTranslation<T[]> {
+
+    /**
+     * Returns an unmodifiable {@link List} view of this array. Elements are rendered when they are first accessed
+     * and share a single batch. The returned {@link List} is not thread-safe.
+     *
+     * @param tagResolver a {@link TagResolver}
+     * @param contexts    the contexts supplied to this message
+     * @return a lazily rendered {@link List}
+     */
+    default @NotNull List<T> lazyValue(@NotNull TagResolver tagResolver, @NotNull Object @NotNull ... contexts) {
+        return Collections.unmodifiableList(Arrays.asList(this.value(tagResolver, contexts)));
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} view of this array. Elements are rendered when they are first accessed
+     * and share a single batch. The returned {@link List} is not thread-safe.
+     *
+     * @param placeholderResolver a {@link PlaceholderResolver}
+     * @param contexts            the contexts supplied to this message
+     * @return a lazily rendered {@link List}
+     */
+    default @NotNull List<T> lazyValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+        return Collections.unmodifiableList(Arrays.asList(this.value(placeholderResolver, contexts)));
+    }
 }
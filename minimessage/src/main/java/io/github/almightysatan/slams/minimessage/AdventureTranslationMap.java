@@ -20,16 +20,44 @@
 
 package io.github.almightysatan.slams.minimessage;
 
+import io.github.almightysatan.slams.PlaceholderResolver;
 import io.github.almightysatan.slams.TranslationMap;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 
 /**
- * Represents a map of {@link AdventureTranslation AdventureTranslations}.
+ * Represents a map of {@link AdventureTranslation AdventureTranslations}. All values of the map are rendered as a
+ * single batch, placeholders with the same name and arguments are only evaluated once per batch.
  *
  * @param <K> the type of the key
  * @param <T> the type of this translation
  * @param <U> the {@link AdventureTranslation AdventureTranslations} in this map
  */
 public interface AdventureTranslationMap<K, T, U extends AdventureTranslation<T>> extends TranslationMap<K, T, U>, AdventureTranslation<Map<K, T>> {
+
+    /**
+     * Returns an unmodifiable {@link Map} view of this map. Values are rendered when they are first accessed and
+     * share a single batch. The returned {@link Map} is not thread-safe.
+     *
+     * @param tagResolver a {@link TagResolver}
+     * @param contexts    the contexts supplied to this message
+     * @return a lazily rendered {@link Map}
+     */
+    default @NotNull Map<K, T> lazyValue(@NotNull TagResolver tagResolver, @NotNull Object @NotNull ... contexts) {
+        return this.value(tagResolver, contexts);
+    }
+
+    /**
+     * Returns an unmodifiable {@link Map} view of this map. Values are rendered when they are first accessed and
+     * share a single batch. The returned {@link Map} is not thread-safe.
+     *
+     * @param placeholderResolver a {@link PlaceholderResolver}
+     * @param contexts            the contexts supplied to this message
+     * @return a lazily rendered {@link Map}
+     */
+    default @NotNull Map<K, T> lazyValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+        return this.value(placeholderResolver, contexts);
+    }
 }
@@ -23,30 +23,99 @@ package io.github.almightysatan.slams.minimessage;
 import io.github.almightysatan.slams.*;
 import io.github.almightysatan.slams.impl.Types;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.Context;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.TagPattern;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
 @ApiStatus.Internal
 interface AdventureTypes {
 
-    static AdventureTranslation<Component> messageValue(TagResolver tagResolver, Object value) throws InvalidTypeException {
+    static AdventureTranslation<Component> messageValue(MessageTagResolver tagResolver, Object value) throws InvalidTypeException {
         String string = Types.checkString(value);
-        return (tagResolver0, contexts) -> MiniMessage.miniMessage().deserialize(string, new ContextTagResolverAdapter(ContextTagResolver.of(tagResolver, tagResolver0), contexts));
+        Component constant = constantValue(tagResolver, string);
+        if (constant != null)
+            return new BatchTranslation<Component>() {
+                @Override
+                public @NotNull Component value(@NotNull TagResolver tagResolver0, @NotNull Object @NotNull ... contexts) {
+                    return constant;
+                }
+
+                @Override
+                public @NotNull Component value(MessageTagResolver.@NotNull Binding binding) {
+                    return constant;
+                }
+            };
+        return new BatchTranslation<Component>() {
+            @Override
+            public @NotNull Component value(@NotNull TagResolver tagResolver0, @NotNull Object @NotNull ... contexts) {
+                return tagResolver.deserialize(string, tagResolver0, null, contexts);
+            }
+
+            @Override
+            public @NotNull Component value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+                return tagResolver.deserialize(string, null, placeholderResolver, contexts);
+            }
+
+            @Override
+            public @NotNull Component value(MessageTagResolver.@NotNull Binding binding) {
+                return tagResolver.deserialize(string, binding);
+            }
+        };
+    }
+
+    /**
+     * Parses the given string once and returns the resulting {@link Component} if its value can not depend on the
+     * message's {@link TagResolver}, a {@link TagResolver} supplied when evaluating the message or any contexts.
+     * Tags that are resolved by MiniMessage's standard {@link TagResolver} (and not by the message's
+     * {@link TagResolver}) are considered to be constant. Returns {@code null} if the string contains any other tags.
+     *
+     * @param tagResolver the message's {@link MessageTagResolver}
+     * @param string      the string in MiniMessage format
+     * @return the constant value or {@code null}
+     */
+    static @Nullable Component constantValue(@NotNull MessageTagResolver tagResolver, @NotNull String string) {
+        TagResolver standard = TagResolver.standard();
+        boolean[] dynamic = new boolean[1];
+        Component component = MiniMessage.miniMessage().deserialize(string, new TagResolver() {
+            @Override
+            public @Nullable Tag resolve(@TagPattern @NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Context ctx) {
+                this.has(name);
+                return null;
+            }
+
+            @Override
+            public boolean has(@NotNull String name) {
+                if (!standard.has(name) || tagResolver.has(name))
+                    dynamic[0] = true;
+                return false;
+            }
+        });
+        return dynamic[0] ? null : component;
     }
 
-    static <T, U extends AdventureTranslation<T>> AdventureTranslationArray<T, U> messageArrayValue(@Nullable Object input, @NotNull IntFunction<T[]> arrayFun, @NotNull Function<Object, U> callback) throws InvalidTypeException {
+    static <T, U extends AdventureTranslation<T>> AdventureTranslationArray<T, U> messageArrayValue(@NotNull MessageTagResolver tagResolver,
+            @Nullable Object input, @NotNull IntFunction<T[]> arrayFun, @NotNull Function<Object, U> callback) throws InvalidTypeException {
         Translation<?>[] values = Types.checkArray(input, callback);
-        return new AdventureTranslationArray<T, U>() {
+        return new BatchTranslationArray<T, U>() {
 
             @SuppressWarnings("unchecked")
             @Override
@@ -59,17 +128,40 @@ interface AdventureTypes {
                 return values.length;
             }
 
-            @SuppressWarnings("unchecked")
             @Override
-            public T @NotNull [] value(@NotNull TagResolver tagResolver, @NotNull Object @NotNull ... contexts) {
-                return Arrays.stream(values).map(translation -> ((U) translation).value(tagResolver, contexts)).toArray(arrayFun);
+            public T @NotNull [] value(@NotNull TagResolver tagResolver0, @NotNull Object @NotNull ... contexts) {
+                return tagResolver.batch(tagResolver0, null, contexts, this::value);
+            }
+
+            @Override
+            public T @NotNull [] value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+                return tagResolver.batch(null, placeholderResolver, contexts, this::value);
+            }
+
+            @Override
+            public T @NotNull [] value(MessageTagResolver.@NotNull Binding binding) {
+                T[] array = arrayFun.apply(values.length);
+                for (int i = 0; i < array.length; i++)
+                    array[i] = AdventureTypes.value(this.get(i), binding);
+                return array;
+            }
+
+            @Override
+            public @NotNull List<T> lazyValue(@NotNull TagResolver tagResolver0, @NotNull Object @NotNull ... contexts) {
+                return new LazyList<>(this, tagResolver.lazyBatch(tagResolver0, null, contexts));
+            }
+
+            @Override
+            public @NotNull List<T> lazyValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+                return new LazyList<>(this, tagResolver.lazyBatch(null, placeholderResolver, contexts));
             }
         };
     }
 
-    static <K, T, U extends AdventureTranslation<T>> AdventureTranslationMap<K, T, U> messageMapValue(@Nullable Object input, Class<K> keyClass, @NotNull Function<Object, U> callback) throws InvalidTypeException {
+    static <K, T, U extends AdventureTranslation<T>> AdventureTranslationMap<K, T, U> messageMapValue(@NotNull MessageTagResolver tagResolver,
+            @Nullable Object input, Class<K> keyClass, @NotNull Function<Object, U> callback) throws InvalidTypeException {
         Map<K, U> values = Types.checkMap(input, keyClass, callback);
-        return new AdventureTranslationMap<K, T, U>() {
+        return new BatchTranslationMap<K, T, U>() {
             @Override
             public @Nullable U get(K key) {
                 return values.get(key);
@@ -81,12 +173,172 @@ interface AdventureTypes {
             }
 
             @Override
-            public @NotNull Map<K, T> value(@NotNull TagResolver tagResolver, @NotNull Object @NotNull ... contexts) {
-                Map<K, T> map = new HashMap<>();
-                for(Map.Entry<K, U> value : values.entrySet())
-                    map.put(value.getKey(), value.getValue().value(tagResolver, contexts));
+            public @NotNull Map<K, T> value(@NotNull TagResolver tagResolver0, @NotNull Object @NotNull ... contexts) {
+                return tagResolver.batch(tagResolver0, null, contexts, this::value);
+            }
+
+            @Override
+            public @NotNull Map<K, T> value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+                return tagResolver.batch(null, placeholderResolver, contexts, this::value);
+            }
+
+            @Override
+            public @NotNull Map<K, T> value(MessageTagResolver.@NotNull Binding binding) {
+                Map<K, T> map = new HashMap<>((int) (values.size() / 0.75F) + 1);
+                for (Map.Entry<K, U> value : values.entrySet())
+                    map.put(value.getKey(), AdventureTypes.value(value.getValue(), binding));
                 return Collections.unmodifiableMap(map);
             }
+
+            @Override
+            public @NotNull Map<K, T> lazyValue(@NotNull TagResolver tagResolver0, @NotNull Object @NotNull ... contexts) {
+                return new LazyMap<>(values, tagResolver.lazyBatch(tagResolver0, null, contexts));
+            }
+
+            @Override
+            public @NotNull Map<K, T> lazyValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+                return new LazyMap<>(values, tagResolver.lazyBatch(null, placeholderResolver, contexts));
+            }
         };
     }
+
+    /**
+     * Renders the given {@link AdventureTranslation} as part of the batch of the given {@link MessageTagResolver.Binding}.
+     *
+     * @param translation the {@link AdventureTranslation}
+     * @param binding     the {@link MessageTagResolver.Binding} of the current batch
+     * @param <T>         the type of the {@link AdventureTranslation}
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull T value(@NotNull AdventureTranslation<T> translation, MessageTagResolver.@NotNull Binding binding) {
+        if (translation instanceof BatchTranslation)
+            return ((BatchTranslation<T>) translation).value(binding);
+        if (binding.placeholderResolver() != null)
+            return translation.value(binding.placeholderResolver(), binding.contexts());
+        TagResolver tagResolver = binding.tagResolver();
+        return translation.value(tagResolver != null ? tagResolver : ContextTagResolver.empty(), binding.contexts());
+    }
+
+    /**
+     * An {@link AdventureTranslation} that can be rendered as part of a batch.
+     *
+     * @param <T> the type of this translation
+     */
+    interface BatchTranslation<T> extends AdventureTranslation<T> {
+
+        /**
+         * Renders this translation using the {@link MessageTagResolver.Binding} of the current batch.
+         *
+         * @param binding the {@link MessageTagResolver.Binding} of the current batch
+         * @return the value
+         */
+        @NotNull T value(MessageTagResolver.@NotNull Binding binding);
+    }
+
+    interface BatchTranslationArray<T, U extends AdventureTranslation<T>> extends AdventureTranslationArray<T, U>, BatchTranslation<T[]> {
+    }
+
+    interface BatchTranslationMap<K, T, U extends AdventureTranslation<T>> extends AdventureTranslationMap<K, T, U>, BatchTranslation<Map<K, T>> {
+    }
+
+    /**
+     * A {@link List} that renders the elements of an {@link AdventureTranslationArray} when they are first accessed.
+     */
+    class LazyList<T, U extends AdventureTranslation<T>> extends AbstractList<T> implements RandomAccess {
+
+        private final AdventureTranslationArray<T, U> translation;
+        private final MessageTagResolver.Binding binding;
+        private final Object[] values;
+
+        LazyList(@NotNull AdventureTranslationArray<T, U> translation, MessageTagResolver.@NotNull Binding binding) {
+            this.translation = translation;
+            this.binding = binding;
+            this.values = new Object[translation.size()];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get(int index) {
+            Object value = this.values[index];
+            if (value == null)
+                this.values[index] = value = AdventureTypes.value(this.translation.get(index), this.binding);
+            return (T) value;
+        }
+
+        @Override
+        public int size() {
+            return this.values.length;
+        }
+    }
+
+    /**
+     * A {@link Map} that renders the values of an {@link AdventureTranslationMap} when they are first accessed.
+     */
+    class LazyMap<K, T, U extends AdventureTranslation<T>> extends AbstractMap<K, T> {
+
+        private final Map<K, U> translations;
+        private final MessageTagResolver.Binding binding;
+        private final Map<K, T> values = new HashMap<>();
+        private Set<Map.Entry<K, T>> entrySet;
+
+        LazyMap(@NotNull Map<K, U> translations, MessageTagResolver.@NotNull Binding binding) {
+            this.translations = translations;
+            this.binding = binding;
+        }
+
+        @Override
+        public @Nullable T get(Object key) {
+            T value = this.values.get(key);
+            if (value == null) {
+                U translation = this.translations.get(key);
+                if (translation == null)
+                    return null;
+                value = AdventureTypes.value(translation, this.binding);
+                @SuppressWarnings("unchecked")
+                K k = (K) key;
+                this.values.put(k, value);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.translations.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.translations.size();
+        }
+
+        @Override
+        public @NotNull Set<Map.Entry<K, T>> entrySet() {
+            if (this.entrySet == null)
+                this.entrySet = new AbstractSet<Map.Entry<K, T>>() {
+                    @Override
+                    public @NotNull Iterator<Map.Entry<K, T>> iterator() {
+                        Iterator<K> keys = LazyMap.this.translations.keySet().iterator();
+                        return new Iterator<Map.Entry<K, T>>() {
+                            @Override
+                            public boolean hasNext() {
+                                return keys.hasNext();
+                            }
+
+                            @Override
+                            public Map.Entry<K, T> next() {
+                                K key = keys.next();
+                                return new AbstractMap.SimpleImmutableEntry<>(key, LazyMap.this.get(key));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return LazyMap.this.translations.size();
+                    }
+                };
+            return this.entrySet;
+        }
+    }
 }
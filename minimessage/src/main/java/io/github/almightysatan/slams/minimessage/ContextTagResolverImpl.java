@@ -23,53 +23,301 @@ package io.github.almightysatan.slams.minimessage;
 import io.github.almightysatan.slams.Placeholder;
 import io.github.almightysatan.slams.PlaceholderResolver;
 import io.github.almightysatan.slams.impl.ArgumentList;
+import io.github.almightysatan.slams.impl.CompiledPlaceholderResolver;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.minimessage.ParsingException;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.TagPattern;
 import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @ApiStatus.Internal
 class ContextTagResolverImpl {
 
     static @NotNull ContextTagResolver ofPlaceholderResolver(@NotNull PlaceholderResolver placeholderResolver, boolean eval) {
-        Objects.requireNonNull(placeholderResolver);
-        return new ContextTagResolver() {
+        return new PlaceholderTagResolver(Objects.requireNonNull(placeholderResolver), eval);
+    }
 
-            @Override
-            public @Nullable Tag resolve(@TagPattern @NotNull String name, @NotNull ArgumentQueue arguments,
-                    net.kyori.adventure.text.minimessage.@NotNull Context ctx, @NotNull Object @NotNull ... contexts) throws ParsingException {
-                Placeholder placeholder = placeholderResolver.resolve(name);
-                if (placeholder == null)
-                    return null;
-                String value = placeholder.value(contexts, this.argumentQueueToList(arguments, contexts),
-                        io.github.almightysatan.slams.Component.STRING_FACTORY).stringValue(placeholderResolver, contexts);
-                return eval ? Tag.preProcessParsed(value) : Tag.selfClosingInserting(Component.text(value));
+    /**
+     * Returns {@code true} if the given {@link TagResolver} is known to always resolve the same tag names. This is the
+     * case for {@link ContextTagResolver#empty()} and {@link ContextTagResolver ContextTagResolvers} created from an
+     * immutable {@link PlaceholderResolver}.
+     *
+     * @param tagResolver the {@link TagResolver}
+     * @return whether the given {@link TagResolver} is immutable
+     * @see CompiledPlaceholderResolver#isImmutable(PlaceholderResolver)
+     */
+    static boolean isImmutable(@NotNull TagResolver tagResolver) {
+        return tagResolver == ContextTagResolver.empty() || tagResolver instanceof PlaceholderTagResolver
+                && CompiledPlaceholderResolver.isImmutable(((PlaceholderTagResolver) tagResolver).placeholderResolver);
+    }
+
+    /**
+     * Resolves a {@link Tag} using the {@link Placeholder Placeholders} of the given {@link PlaceholderResolver}.
+     * The arguments are passed to the {@link Placeholder} using a pooled {@link ArgumentList}, the
+     * {@link io.github.almightysatan.slams.Component Components} wrapping the arguments are shared between renders if
+     * {@code argumentCache} is not {@code null}.
+     * The {@link Tag Tags} of constexpr placeholders are cached if {@code constantTags} is not {@code null}. The
+     * {@link Tag Tags} of all placeholders are cached if {@code batchTags} is not {@code null}. If the raw value of a
+     * placeholder is an Adventure {@link ComponentLike} it is inserted as is. Otherwise, the string is derived from the
+     * raw value, as placeholders created by {@link Placeholder#of} do, and the string value is only evaluated if there
+     * is no raw value.
+     *
+     * @param placeholderResolver the {@link PlaceholderResolver}
+     * @param eval                whether the value should be parsed by MiniMessage
+     * @param constantTags        a cache for the {@link Tag Tags} of constexpr placeholders or {@code null}
+     * @param batchTags           a cache for the {@link Tag Tags} of the current batch or {@code null}
+     * @param argumentCache       a cache for the arguments or {@code null}
+     * @param name                the name of the tag
+     * @param arguments           the arguments
+     * @param contexts            the contexts
+     * @return a tag or {@code null} if the {@link PlaceholderResolver} does not resolve the name
+     */
+    static @Nullable Tag resolve(@NotNull PlaceholderResolver placeholderResolver, boolean eval, @Nullable ConstantTags constantTags,
+            @Nullable ConstantTags batchTags, @Nullable ArgumentCache argumentCache, @NotNull String name, @NotNull ArgumentQueue arguments,
+            @NotNull Object @NotNull [] contexts) {
+        Placeholder placeholder = placeholderResolver.resolve(name);
+        if (placeholder == null)
+            return null;
+
+        Object key = argumentKey(arguments);
+        boolean cache = constantTags != null && placeholder.constexpr();
+        if (cache) {
+            Tag tag = constantTags.get(placeholder, key);
+            if (tag != null)
+                return tag;
+        }
+        if (batchTags != null) {
+            Tag tag = batchTags.get(placeholder, key);
+            if (tag != null)
+                return tag;
+        }
+
+        List<io.github.almightysatan.slams.Component<String>> components = key == null ? Collections.emptyList()
+                : argumentCache != null ? argumentCache.get(key) : components(key);
+        ArgumentList<String> argumentList = components.isEmpty() ? null : ArgumentList.acquire(components, placeholderResolver, contexts);
+        Tag tag;
+        try {
+            io.github.almightysatan.slams.Component<String> value = placeholder.value(contexts,
+                    argumentList != null ? argumentList : Collections.emptyList(), io.github.almightysatan.slams.Component.STRING_FACTORY);
+            // the value is only evaluated once, lazy components would otherwise evaluate it for each accessor
+            Object raw = value.rawValue(placeholderResolver, contexts);
+            if (raw instanceof ComponentLike)
+                tag = Tag.selfClosingInserting((ComponentLike) raw);
+            else {
+                String string = raw != null ? String.valueOf(raw) : value.stringValue(placeholderResolver, contexts);
+                tag = eval ? Tag.preProcessParsed(string) : Tag.selfClosingInserting(Component.text(string));
             }
+        } finally {
+            if (argumentList != null)
+                argumentList.release();
+        }
 
-            @Override
-            public boolean has(@NotNull String name) {
-                return placeholderResolver.resolve(name) != null;
+        if (cache)
+            constantTags.put(placeholder, key, tag);
+        if (batchTags != null)
+            batchTags.put(placeholder, key, tag);
+        return tag;
+    }
+
+    /**
+     * Pops all arguments from the given {@link ArgumentQueue}. Returns {@code null} if there are no arguments, the
+     * argument itself if there is exactly one argument or a {@link List} of all arguments.
+     */
+    private static @Nullable Object argumentKey(@NotNull ArgumentQueue argumentQueue) {
+        if (!argumentQueue.hasNext())
+            return null;
+        String first = argumentQueue.pop().value();
+        if (!argumentQueue.hasNext())
+            return first;
+        List<String> arguments = new ArrayList<>();
+        arguments.add(first);
+        while (argumentQueue.hasNext())
+            arguments.add(argumentQueue.pop().value());
+        return arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull List<io.github.almightysatan.slams.Component<String>> components(@NotNull Object key) {
+        if (key instanceof String)
+            return Collections.singletonList(io.github.almightysatan.slams.Component.ofString((String) key));
+        List<String> arguments = (List<String>) key;
+        io.github.almightysatan.slams.Component<String>[] array = new io.github.almightysatan.slams.Component[arguments.size()];
+        for (int i = 0; i < array.length; i++)
+            array[i] = io.github.almightysatan.slams.Component.ofString(arguments.get(i));
+        return Arrays.asList(array);
+    }
+
+    /**
+     * A {@link ContextTagResolver} that resolves tags using the {@link Placeholder Placeholders} of a
+     * {@link PlaceholderResolver}.
+     */
+    static class PlaceholderTagResolver implements ContextTagResolver {
+
+        private final PlaceholderResolver placeholderResolver;
+        private final boolean eval;
+        private final ConstantTags constantTags = new ConstantTags();
+        private final ArgumentCache argumentCache = new ArgumentCache();
+
+        private PlaceholderTagResolver(@NotNull PlaceholderResolver placeholderResolver, boolean eval) {
+            this.placeholderResolver = placeholderResolver;
+            this.eval = eval;
+        }
+
+        @Override
+        public @Nullable Tag resolve(@TagPattern @NotNull String name, @NotNull ArgumentQueue arguments,
+                net.kyori.adventure.text.minimessage.@NotNull Context ctx, @NotNull Object @NotNull ... contexts) throws ParsingException {
+            return this.resolve(name, arguments, contexts, null);
+        }
+
+        @Nullable Tag resolve(@NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Object @NotNull [] contexts,
+                @Nullable ConstantTags batchTags) {
+            return ContextTagResolverImpl.resolve(this.placeholderResolver, this.eval, this.constantTags, batchTags, this.argumentCache, name, arguments,
+                    contexts);
+        }
+
+        boolean eval() {
+            return this.eval;
+        }
+
+        @Override
+        public boolean has(@NotNull String name) {
+            return this.placeholderResolver.resolve(name) != null;
+        }
+    }
+
+    /**
+     * Caches the {@link io.github.almightysatan.slams.Component Components} wrapping the arguments of tags. Once the
+     * current generation of entries is full it replaces the previous generation. Entries of the previous generation are
+     * moved to the current one when they are used again, all other entries are dropped with the previous generation.
+     */
+    static class ArgumentCache {
+
+        private static final int MAX_SIZE = 512;
+
+        private volatile Map<Object, List<io.github.almightysatan.slams.Component<String>>> current = new ConcurrentHashMap<>();
+        private volatile Map<Object, List<io.github.almightysatan.slams.Component<String>>> previous = Collections.emptyMap();
+
+        private @NotNull List<io.github.almightysatan.slams.Component<String>> get(@NotNull Object key) {
+            Map<Object, List<io.github.almightysatan.slams.Component<String>>> current = this.current;
+            List<io.github.almightysatan.slams.Component<String>> components = current.get(key);
+            if (components != null)
+                return components;
+
+            components = this.previous.get(key);
+            if (components == null)
+                components = components(key);
+            if (current.size() >= MAX_SIZE)
+                current = this.rotate(current);
+            current.put(key, components);
+            return components;
+        }
+
+        private synchronized @NotNull Map<Object, List<io.github.almightysatan.slams.Component<String>>> rotate(
+                @NotNull Map<Object, List<io.github.almightysatan.slams.Component<String>>> full) {
+            if (this.current == full) {
+                this.previous = full;
+                this.current = new ConcurrentHashMap<>();
+            }
+            return this.current;
+        }
+    }
+
+    /**
+     * Caches {@link Tag Tags} per placeholder and arguments. Used for the {@link Tag Tags} of constexpr placeholders
+     * of {@link PlaceholderResolver PlaceholderResolvers} that are not created per render and for the
+     * {@link Tag Tags} of a single batch. Uses two generations of entries like {@link ArgumentCache}.
+     */
+    static class ConstantTags {
+
+        private static final int MAX_SIZE = 1024;
+
+        private volatile Map<Key, Tag> current;
+        private volatile Map<Key, Tag> previous = Collections.emptyMap();
+
+        synchronized void clear() {
+            Map<Key, Tag> current = this.current;
+            if (current != null)
+                current.clear();
+            this.previous = Collections.emptyMap();
+        }
+
+        private @Nullable Tag get(@NotNull Placeholder placeholder, @Nullable Object arguments) {
+            Map<Key, Tag> current = this.current;
+            if (current == null)
+                return null;
+            Key key = new Key(placeholder, arguments);
+            Tag tag = current.get(key);
+            if (tag != null)
+                return tag;
+
+            tag = this.previous.get(key);
+            if (tag != null)
+                this.put(key, tag);
+            return tag;
+        }
+
+        private void put(@NotNull Placeholder placeholder, @Nullable Object arguments, @NotNull Tag tag) {
+            this.put(new Key(placeholder, arguments), tag);
+        }
+
+        private void put(@NotNull Key key, @NotNull Tag tag) {
+            Map<Key, Tag> current = this.current;
+            if (current == null) {
+                synchronized (this) {
+                    if ((current = this.current) == null)
+                        this.current = current = new ConcurrentHashMap<>();
+                }
+            }
+            if (current.size() >= MAX_SIZE)
+                current = this.rotate(current);
+            current.put(key, tag);
+        }
+
+        private synchronized @NotNull Map<Key, Tag> rotate(@NotNull Map<Key, Tag> full) {
+            if (this.current == full) {
+                this.previous = full;
+                this.current = new ConcurrentHashMap<>();
             }
+            return this.current;
+        }
+
+        private static class Key {
 
-            private @NotNull List<Placeholder.Argument<String>> argumentQueueToList(@NotNull ArgumentQueue argumentQueue,
-                    @NotNull Object @NotNull [] contexts) {
-                if (!argumentQueue.hasNext())
-                    return Collections.emptyList();
+            private final Placeholder placeholder;
+            private final Object arguments;
 
-                List<io.github.almightysatan.slams.Component<String>> argumentList = new ArrayList<>();
-                while (argumentQueue.hasNext())
-                    argumentList.add(io.github.almightysatan.slams.Component.ofString(argumentQueue.pop().value()));
-                return new ArgumentList<>(argumentList, placeholderResolver, contexts);
+            private Key(@NotNull Placeholder placeholder, @Nullable Object arguments) {
+                this.placeholder = placeholder;
+                this.arguments = arguments;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o)
+                    return true;
+                if (!(o instanceof Key))
+                    return false;
+                Key key = (Key) o;
+                return this.placeholder == key.placeholder && Objects.equals(this.arguments, key.arguments);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * System.identityHashCode(this.placeholder) + Objects.hashCode(this.arguments);
             }
-        };
+        }
     }
 }
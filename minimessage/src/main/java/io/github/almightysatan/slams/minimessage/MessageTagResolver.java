@@ -0,0 +1,267 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.minimessage;
+
+import io.github.almightysatan.slams.PlaceholderResolver;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.TagPattern;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves the tags of a message. Created once per message for the message's {@link TagResolver}. If the message's
+ * {@link TagResolver} is known to be immutable, i.e. it is created from an immutable {@link PlaceholderResolver} such
+ * as the result of {@link PlaceholderResolver#compile}, which tag names it resolves is remembered, so the names
+ * MiniMessage encounters while parsing are only checked once. Other {@link TagResolver TagResolvers} may change, e.g.
+ * a {@link PlaceholderResolver} built by a {@link PlaceholderResolver.Builder} that is still in use, and are asked on
+ * every lookup. The {@link TagResolver} or {@link PlaceholderResolver} supplied when rendering the message is
+ * consulted after the message's {@link TagResolver}. The {@link TagResolver} passed to MiniMessage is taken from a
+ * per-thread pool and bound to the current render, so rendering does not allocate any wrappers.
+ * <p>
+ * The elements of arrays and maps are rendered as a batch that shares a single {@link Binding}. Within a batch the
+ * {@link Tag Tags} of placeholders are only resolved once per placeholder and arguments.
+ */
+@ApiStatus.Internal
+class MessageTagResolver {
+
+    private static final int MAX_CACHED_NAMES = 1024;
+    private static final ThreadLocal<ArrayDeque<Binding>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final TagResolver tagResolver;
+    private final Map<String, Boolean> names;
+    private final ContextTagResolverImpl.ArgumentCache argumentCache = new ContextTagResolverImpl.ArgumentCache();
+
+    MessageTagResolver(@NotNull TagResolver tagResolver) {
+        this.tagResolver = Objects.requireNonNull(tagResolver);
+        this.names = ContextTagResolverImpl.isImmutable(tagResolver) ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Returns {@code true} if the message's {@link TagResolver} resolves the given tag name.
+     *
+     * @param name the name of the tag
+     * @return whether the message's {@link TagResolver} resolves the tag
+     */
+    boolean has(@NotNull String name) {
+        if (this.names == null)
+            return this.tagResolver.has(name);
+        Boolean has = this.names.get(name);
+        if (has == null) {
+            has = this.tagResolver.has(name);
+            if (this.names.size() < MAX_CACHED_NAMES)
+                this.names.put(name, has);
+        }
+        return has;
+    }
+
+    /**
+     * Parses the given string. Tags that can not be resolved by the message's {@link TagResolver} are resolved by
+     * either the given {@link TagResolver} or the given {@link PlaceholderResolver}.
+     *
+     * @param string              the string in MiniMessage format
+     * @param tagResolver         the {@link TagResolver} supplied when rendering the message or {@code null}
+     * @param placeholderResolver the {@link PlaceholderResolver} supplied when rendering the message or {@code null}
+     * @param contexts            the contexts
+     * @return the resulting {@link Component}
+     */
+    @NotNull Component deserialize(@NotNull String string, @Nullable TagResolver tagResolver, @Nullable PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts) {
+        Binding binding = this.acquire(tagResolver, placeholderResolver, contexts, false);
+        try {
+            return MiniMessage.miniMessage().deserialize(string, binding);
+        } finally {
+            release(binding);
+        }
+    }
+
+    /**
+     * Parses the given string using a {@link Binding} of the current batch.
+     *
+     * @param string  the string in MiniMessage format
+     * @param binding the {@link Binding} of the current batch
+     * @return the resulting {@link Component}
+     */
+    @NotNull Component deserialize(@NotNull String string, @NotNull Binding binding) {
+        if (binding.message != this)
+            return this.deserialize(string, binding.tagResolver, binding.placeholderResolver, binding.contexts);
+        return MiniMessage.miniMessage().deserialize(string, binding);
+    }
+
+    /**
+     * Renders a batch. The given function is called with a pooled {@link Binding} that is shared by all elements of
+     * the batch.
+     *
+     * @param tagResolver         the {@link TagResolver} supplied when rendering the message or {@code null}
+     * @param placeholderResolver the {@link PlaceholderResolver} supplied when rendering the message or {@code null}
+     * @param contexts            the contexts
+     * @param render              renders the elements of the batch
+     * @param <T>                 the type of the result
+     * @return the result
+     */
+    <T> @NotNull T batch(@Nullable TagResolver tagResolver, @Nullable PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts,
+            @NotNull Function<@NotNull Binding, @NotNull T> render) {
+        Binding binding = this.acquire(tagResolver, placeholderResolver, contexts, true);
+        try {
+            return render.apply(binding);
+        } finally {
+            release(binding);
+        }
+    }
+
+    /**
+     * Returns a new {@link Binding} for a batch that is rendered lazily. The {@link Binding} is not pooled and remains
+     * bound until it is garbage collected.
+     *
+     * @param tagResolver         the {@link TagResolver} supplied when rendering the message or {@code null}
+     * @param placeholderResolver the {@link PlaceholderResolver} supplied when rendering the message or {@code null}
+     * @param contexts            the contexts
+     * @return a new {@link Binding}
+     */
+    @NotNull Binding lazyBatch(@Nullable TagResolver tagResolver, @Nullable PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts) {
+        Binding binding = new Binding();
+        binding.bind(this, tagResolver, placeholderResolver, contexts.clone(), true);
+        return binding;
+    }
+
+    private @NotNull Binding acquire(@Nullable TagResolver tagResolver, @Nullable PlaceholderResolver placeholderResolver,
+            @NotNull Object @NotNull [] contexts, boolean batch) {
+        Binding binding = POOL.get().poll();
+        if (binding == null)
+            binding = new Binding();
+        binding.bind(this, tagResolver, placeholderResolver, contexts, batch);
+        return binding;
+    }
+
+    private static void release(@NotNull Binding binding) {
+        binding.bind(null, null, null, null, false);
+        POOL.get().push(binding);
+    }
+
+    private @Nullable Tag resolve(@TagPattern @NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Context ctx,
+            @NotNull Binding binding) throws ParsingException {
+        if (!this.has(name))
+            return null;
+        return resolve(this.tagResolver, name, arguments, ctx, binding);
+    }
+
+    private static @Nullable Tag resolve(@NotNull TagResolver tagResolver, @TagPattern @NotNull String name, @NotNull ArgumentQueue arguments,
+            @NotNull Context ctx, @NotNull Binding binding) throws ParsingException {
+        if (tagResolver instanceof ContextTagResolverImpl.PlaceholderTagResolver) {
+            ContextTagResolverImpl.PlaceholderTagResolver placeholderTagResolver = (ContextTagResolverImpl.PlaceholderTagResolver) tagResolver;
+            return placeholderTagResolver.resolve(name, arguments, binding.contexts, binding.batchTags(placeholderTagResolver.eval()));
+        }
+        if (tagResolver instanceof ContextTagResolver)
+            return ((ContextTagResolver) tagResolver).resolve(name, arguments, ctx, binding.contexts);
+        return tagResolver.resolve(name, arguments, ctx);
+    }
+
+    /**
+     * The {@link TagResolver} passed to MiniMessage. Bound to a single render or batch at a time.
+     */
+    static class Binding implements TagResolver {
+
+        private MessageTagResolver message;
+        private TagResolver tagResolver;
+        private PlaceholderResolver placeholderResolver;
+        private Object[] contexts;
+        private boolean batch;
+        private ContextTagResolverImpl.ConstantTags tags;
+        private ContextTagResolverImpl.ConstantTags unsafeTags;
+
+        private void bind(@Nullable MessageTagResolver message, @Nullable TagResolver tagResolver, @Nullable PlaceholderResolver placeholderResolver,
+                @NotNull Object @Nullable [] contexts, boolean batch) {
+            if (this.batch) {
+                if (this.tags != null)
+                    this.tags.clear();
+                if (this.unsafeTags != null)
+                    this.unsafeTags.clear();
+            }
+            this.message = message;
+            this.tagResolver = tagResolver;
+            this.placeholderResolver = placeholderResolver;
+            this.contexts = contexts;
+            this.batch = batch;
+        }
+
+        private @Nullable ContextTagResolverImpl.ConstantTags batchTags(boolean eval) {
+            if (!this.batch)
+                return null;
+            if (eval)
+                return this.unsafeTags != null ? this.unsafeTags : (this.unsafeTags = new ContextTagResolverImpl.ConstantTags());
+            return this.tags != null ? this.tags : (this.tags = new ContextTagResolverImpl.ConstantTags());
+        }
+
+        /**
+         * Returns the {@link TagResolver} supplied when rendering the message or {@code null}.
+         */
+        @Nullable TagResolver tagResolver() {
+            return this.tagResolver;
+        }
+
+        /**
+         * Returns the {@link PlaceholderResolver} supplied when rendering the message or {@code null}.
+         */
+        @Nullable PlaceholderResolver placeholderResolver() {
+            return this.placeholderResolver;
+        }
+
+        /**
+         * Returns the contexts of the current render.
+         */
+        @NotNull Object @NotNull [] contexts() {
+            return this.contexts;
+        }
+
+        @Override
+        public @Nullable Tag resolve(@TagPattern @NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Context ctx) throws ParsingException {
+            Tag tag = this.message.resolve(name, arguments, ctx, this);
+            if (tag != null)
+                return tag;
+            if (this.placeholderResolver != null)
+                return ContextTagResolverImpl.resolve(this.placeholderResolver, false, null, this.batchTags(false), this.message.argumentCache, name,
+                        arguments, this.contexts);
+            return this.tagResolver != null ? MessageTagResolver.resolve(this.tagResolver, name, arguments, ctx, this) : null;
+        }
+
+        @Override
+        public boolean has(@NotNull String name) {
+            if (this.message.has(name))
+                return true;
+            if (this.placeholderResolver != null)
+                return this.placeholderResolver.resolve(name) != null;
+            return this.tagResolver != null && this.tagResolver.has(name);
+        }
+    }
+}
@@ -23,13 +23,18 @@ package io.github.almightysatan.slams.minimessage;
 import io.github.almightysatan.slams.*;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class AdventureTest {
 
@@ -112,6 +117,39 @@ public class AdventureTest {
         assertEquals("Hello World", component2.content());
     }
 
+    @Test
+    public void testPlaceholderAddedAfterConstruction() throws IOException {
+        Slams langManager = Slams.of("0");
+        PlaceholderResolver.Builder builder = PlaceholderResolver.builder();
+        AdventureMessage entry = AdventureMessage.of("test", langManager, ContextTagResolver.of(builder.build()));
+
+        langManager.load("0", values -> values.put("test", "Hello <test>"));
+
+        assertEquals("Hello <test>", ((TextComponent) entry.value()).content());
+        builder.constant("test", "World");
+        assertEquals("Hello World", ((TextComponent) entry.value()).content());
+    }
+
+    @Test
+    public void testCompiledPlaceholderNames() throws IOException {
+        Slams langManager = Slams.of("0");
+        int[] count = new int[1];
+        PlaceholderResolver counting = key -> {
+            count[0]++;
+            return null;
+        };
+        AdventureMessage entry = AdventureMessage.of("test", langManager,
+                ContextTagResolver.of(PlaceholderResolver.compile(counting, PlaceholderResolver.of(Placeholder.constant("test", "World")))));
+
+        langManager.load("0", values -> values.put("test", "Hello <test> <xxx>"));
+
+        TagResolver local = net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.unparsed("xxx", "!");
+        assertEquals("Hello World !", ((TextComponent) entry.value(local)).content());
+        int lookups = count[0];
+        assertEquals("Hello World !", ((TextComponent) entry.value(local)).content());
+        assertEquals(lookups, count[0]);
+    }
+
     @Test
     public void testPlaceholderArgument() throws IOException {
         Slams langManager = Slams.of("0");
@@ -239,4 +277,62 @@ public class AdventureTest {
         assertEquals(2, entry.translate(null).get(0).size());
         assertEquals("World", ((TextComponent) entry.translate(null).get(0).get(1).value()).content());
     }
+
+    @Test
+    public void testConstantValue() throws IOException {
+        Slams langManager = Slams.of("0");
+        AdventureMessage entry = AdventureMessage.of("test", langManager, ContextTagResolver.of(Placeholder.constant("test", "World")));
+        AdventureMessage entry2 = AdventureMessage.of("test2", langManager, ContextTagResolver.of(Placeholder.constant("test", "World")));
+
+        langManager.load("0", values -> {
+            values.put("test", "<red>Hello</red> World");
+            values.put("test2", "<red>Hello</red> <test>");
+        });
+
+        assertSame(entry.value(), entry.value());
+        assertEquals(MiniMessage.miniMessage().deserialize("<red>Hello</red> World"), entry.value());
+        assertNotSame(entry2.value(), entry2.value());
+    }
+
+    @Test
+    public void testComponentPlaceholder() throws IOException {
+        Slams langManager = Slams.of("0");
+        Component world = Component.text("World");
+        AdventureMessage entry = AdventureMessage.of("test", langManager, ContextTagResolver.of(Placeholder.constant("test", world)));
+        AdventureMessage entry2 = AdventureMessage.of("test2", langManager);
+
+        langManager.load("0", values -> {
+            values.put("test", "Hello <test> <test>");
+            values.put("test2", "Hello <test>");
+        });
+
+        Component expected = MiniMessage.miniMessage().deserialize("Hello <test> <test>", net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.component("test", world));
+        assertEquals(expected, entry.value());
+        assertEquals(expected, entry.value());
+        assertEquals(MiniMessage.miniMessage().deserialize("Hello <test>", net.kyori.adventure.text.minimessage.tag.resolver.Placeholder.component("test", world)),
+                entry2.value(Placeholder.constant("test", world)));
+    }
+
+    @Test
+    public void testArrayBatch() throws IOException {
+        Slams langManager = Slams.of("0");
+        int[] count = new int[1];
+        AdventureMessageArray entry = AdventureMessageArray.of("test", langManager,
+                ContextTagResolver.of(Placeholder.variable("test", () -> String.valueOf(++count[0]))));
+
+        langManager.load("0", values -> values.put("test", new String[]{"<test>", "<test>", "Hello"}));
+
+        Component[] components = entry.value();
+        assertEquals(1, count[0]);
+        assertEquals("1", ((TextComponent) components[0]).content());
+        assertEquals("1", ((TextComponent) components[1]).content());
+
+        List<Component> lazy = entry.translate(null).lazyValue(ContextTagResolver.empty());
+        assertEquals(1, count[0]);
+        assertEquals("Hello", ((TextComponent) lazy.get(2)).content());
+        assertEquals(1, count[0]);
+        assertEquals("2", ((TextComponent) lazy.get(1)).content());
+        assertEquals("2", ((TextComponent) lazy.get(0)).content());
+        assertEquals(2, count[0]);
+    }
 }
@@ -20,4 +20,14 @@ dependencies {
         exclude("net.md-5")
     }
     compileOnly(libs.placeholderapi)
+
+    testImplementation(libs.spigot) {
+        exclude("commons-lang")
+        exclude("com.googlecode.json-simple")
+        exclude("com.google.guava")
+        exclude("com.google.code.gson")
+        exclude("org.avaje")
+        exclude("org.yaml")
+    }
+    testImplementation(libs.placeholderapi)
 }
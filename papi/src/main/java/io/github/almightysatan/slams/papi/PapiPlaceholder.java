@@ -0,0 +1,207 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.papi;
+
+import io.github.almightysatan.slams.CachedPlaceholder;
+import io.github.almightysatan.slams.Component;
+import io.github.almightysatan.slams.Contexts;
+import io.github.almightysatan.slams.Placeholder;
+import io.github.almightysatan.slams.bukkit.OfflinePlayerContext;
+import me.clip.placeholderapi.PlaceholderAPIPlugin;
+import me.clip.placeholderapi.events.ExpansionRegisterEvent;
+import me.clip.placeholderapi.events.ExpansionUnregisterEvent;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The placeholder named "papi". Expansions are looked up once per identifier and looked up again only once an
+ * expansion with that identifier has been registered or unregistered. If the identifier is constant it is bound when
+ * the message is loaded. Results are only cached if the placeholder is wrapped by {@link #cached}.
+ */
+@ApiStatus.Internal
+class PapiPlaceholder implements Placeholder {
+
+    private static final int MAXIMUM_CACHE_SIZE = 4096;
+    private static final Set<PapiPlaceholder> INSTANCES = Collections.newSetFromMap(new WeakHashMap<>());
+    private static Plugin registeredWith;
+
+    private final Function<@NotNull String, @Nullable PlaceholderExpansion> lookup;
+    private final Map<String, Expansion> expansions = new ConcurrentHashMap<>();
+
+    PapiPlaceholder() {
+        this(identifier -> PlaceholderAPIPlugin.getInstance().getLocalExpansionManager().getExpansion(identifier));
+    }
+
+    PapiPlaceholder(@NotNull Function<@NotNull String, @Nullable PlaceholderExpansion> lookup) {
+        this.lookup = lookup;
+        register(this);
+    }
+
+    /**
+     * Returns a {@link CachedPlaceholder} that caches the results of the given placeholder per player, identifier and
+     * parameters. Results are only cached if an {@link OfflinePlayerContext} is present.
+     */
+    static @NotNull CachedPlaceholder cached(@NotNull PapiPlaceholder placeholder, @NotNull Duration ttl) {
+        return Placeholder.cached(placeholder, ttl, contexts -> {
+            OfflinePlayerContext context = Contexts.find(contexts, OfflinePlayerContext.class);
+            return context != null ? context.player().getUniqueId() : null;
+        }, MAXIMUM_CACHE_SIZE);
+    }
+
+    /**
+     * Registers the given placeholder to be notified when expansions are registered or unregistered. The
+     * {@link ExpansionListener} is registered once for the current instance of PlaceholderAPI.
+     */
+    private static void register(@NotNull PapiPlaceholder placeholder) {
+        synchronized (INSTANCES) {
+            INSTANCES.add(placeholder);
+            Plugin plugin = PlaceholderAPIPlugin.getInstance();
+            if (plugin != null && registeredWith != plugin) {
+                Bukkit.getPluginManager().registerEvents(new ExpansionListener(), plugin);
+                registeredWith = plugin;
+            }
+        }
+    }
+
+    static void invalidate(@NotNull PlaceholderExpansion placeholderExpansion) {
+        String identifier = placeholderExpansion.getIdentifier().toLowerCase(Locale.ROOT);
+        List<PapiPlaceholder> instances;
+        synchronized (INSTANCES) {
+            instances = new ArrayList<>(INSTANCES);
+        }
+        for (PapiPlaceholder instance : instances) {
+            Expansion expansion = instance.expansions.get(identifier);
+            if (expansion != null)
+                expansion.expansion = null;
+        }
+    }
+
+    @Override
+    public @NotNull String key() {
+        return "papi";
+    }
+
+    @Override
+    public boolean constexpr() {
+        return false;
+    }
+
+    @Override
+    public <T> @NotNull Component<T> value(@NotNull Object @NotNull [] contexts, @Unmodifiable @NotNull List<@NotNull Argument<T>> arguments,
+            Component.@NotNull ValueFactory<T> factory) {
+        if (arguments.size() != 2)
+            return factory.component("INVALID_PAPI_FORMAT");
+        return component(factory, this.request(this.expansion(arguments.get(0).stringValue()), contexts, arguments.get(1).stringValue()));
+    }
+
+    @Override
+    public <T> @Nullable ProcessedPlaceholder<T> processArguments(@Unmodifiable @NotNull List<@Nullable Argument<T>> arguments,
+            Component.@NotNull ValueFactory<T> factory) {
+        if (arguments.size() != 2)
+            return factory.processedPlaceholder("INVALID_PAPI_FORMAT");
+        if (arguments.get(0) == null)
+            return null;
+
+        Expansion expansion = this.expansion(arguments.get(0).stringValue());
+        if (arguments.get(1) == null)
+            return (contexts, arguments0, factory0) -> component(factory0, this.request(expansion, contexts, arguments0.get(1).stringValue()));
+        String params = arguments.get(1).stringValue();
+        return (contexts, arguments0, factory0) -> component(factory0, this.request(expansion, contexts, params));
+    }
+
+    private @NotNull Expansion expansion(@NotNull String identifier) {
+        return this.expansions.computeIfAbsent(identifier.toLowerCase(Locale.ROOT), Expansion::new);
+    }
+
+    private @NotNull String request(@NotNull Expansion expansion, @NotNull Object @NotNull [] contexts, @NotNull String params) {
+        PlaceholderExpansion placeholderExpansion = expansion.get(this.lookup);
+        if (placeholderExpansion == null)
+            return "UNKNOWN_PAPI_EXPANSION";
+
+        OfflinePlayerContext context = Contexts.find(contexts, OfflinePlayerContext.class);
+        String value = placeholderExpansion.onRequest(context != null ? context.player() : null, params);
+        return value != null ? value : "UNKNOWN_PAPI_PLACEHOLDER";
+    }
+
+    private static <T> @NotNull Component<T> component(Component.@NotNull ValueFactory<T> factory, @NotNull String value) {
+        return factory.component(value, value);
+    }
+
+    /**
+     * Holds the current {@link PlaceholderExpansion} of an identifier. The expansion is looked up again once an
+     * expansion with this identifier has been registered or unregistered, e.g. because PlaceholderAPI has been
+     * reloaded. Missing expansions are not remembered.
+     */
+    private static class Expansion {
+
+        private final String identifier;
+        private volatile PlaceholderExpansion expansion;
+
+        private Expansion(@NotNull String identifier) {
+            this.identifier = identifier;
+        }
+
+        private @Nullable PlaceholderExpansion get(@NotNull Function<@NotNull String, @Nullable PlaceholderExpansion> lookup) {
+            PlaceholderExpansion expansion = this.expansion;
+            if (expansion == null) {
+                expansion = lookup.apply(this.identifier);
+                this.expansion = expansion;
+            }
+            return expansion;
+        }
+    }
+
+    /**
+     * Invalidates the cached expansions of all {@link PapiPlaceholder PapiPlaceholders} once an expansion is
+     * registered or unregistered.
+     */
+    public static class ExpansionListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onRegister(@NotNull ExpansionRegisterEvent event) {
+            invalidate(event.getExpansion());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onUnregister(@NotNull ExpansionUnregisterEvent event) {
+            invalidate(event.getExpansion());
+        }
+    }
+}
@@ -20,16 +20,14 @@
 
 package io.github.almightysatan.slams.papi;
 
+import io.github.almightysatan.slams.CachedPlaceholder;
 import io.github.almightysatan.slams.Placeholder;
 import io.github.almightysatan.slams.PlaceholderResolver;
 import io.github.almightysatan.slams.bukkit.OfflinePlayerContext;
 import me.clip.placeholderapi.PlaceholderAPIPlugin;
-import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Locale;
-import java.util.Optional;
+import java.time.Duration;
 
 /**
  * Contains methods to create a placeholder named "papi" that can be used to access PlaceholderAPI placeholders.
@@ -37,25 +35,27 @@ import java.util.Optional;
 public interface PapiPlaceholders {
 
     /**
-     * Returns a {@link Placeholder} named "papi".
+     * Returns a {@link Placeholder} named "papi". Expansions are looked up once per identifier and results are not
+     * cached.
      *
      * @return a {@link Placeholder}
      */
     static @NotNull Placeholder create() {
-        return Placeholder.of("papi", false, (contexts, arguments) -> {
-            if (arguments.size() != 2)
-                return "INVALID_PAPI_FORMAT";
-            String identifier = arguments.get(0).toLowerCase(Locale.ROOT);
-            PlaceholderExpansion expansion = PlaceholderAPIPlugin.getInstance().getLocalExpansionManager().getExpansion(identifier);
-            if (expansion == null)
-                return "UNKNOWN_PAPI_EXPANSION";
+        return new PapiPlaceholder();
+    }
 
-            Optional<Object> context = Arrays.stream(contexts).filter(c -> c instanceof OfflinePlayerContext).findFirst();
-            String value = expansion.onRequest(context.map(o -> ((OfflinePlayerContext) o).player()).orElse(null), arguments.get(1));
-            if (value == null)
-                return "UNKNOWN_PAPI_PLACEHOLDER";
-            return value;
-        });
+    /**
+     * Returns a {@link CachedPlaceholder} named "papi" that caches results per player, identifier and parameters for
+     * the given amount of time. PlaceholderAPI expansions are often slow and are called repeatedly for the same player,
+     * a duration of one tick (50 milliseconds) is usually sufficient to avoid this. Results are only cached if an
+     * {@link OfflinePlayerContext} is present. Up to 4096 results are cached.
+     *
+     * @param ttl how long results are cached
+     * @return a {@link CachedPlaceholder}
+     * @see Placeholder#cached(Placeholder, Duration, Placeholder.CacheKeyFunction, int)
+     */
+    static @NotNull CachedPlaceholder create(@NotNull Duration ttl) {
+        return PapiPlaceholder.cached(new PapiPlaceholder(), ttl);
     }
 
     /**
@@ -73,6 +73,23 @@ public interface PapiPlaceholders {
         }
     }
 
+    /**
+     * Returns a {@link PlaceholderResolver} that resolves a placeholder named "papi" if PlaceholderAPI is available.
+     * Otherwise, an empty {@link PlaceholderResolver} is returned. Results are cached for the given amount of time.
+     *
+     * @param ttl how long results are cached
+     * @return a {@link PlaceholderResolver}
+     * @see #create(Duration)
+     */
+    static @NotNull PlaceholderResolver createIfAvailable(@NotNull Duration ttl) {
+        try {
+            PlaceholderAPIPlugin.getInstance();
+            return create(ttl);
+        } catch (NoClassDefFoundError e) {
+            return PlaceholderResolver.empty();
+        }
+    }
+
     /**
      * Adds a {@link Placeholder} named "papi" to the given {@link PlaceholderResolver.Builder} if PlaceholderAPI is
      * available.
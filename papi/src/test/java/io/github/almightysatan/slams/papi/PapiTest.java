@@ -0,0 +1,147 @@
+/*
+ * SLAMS - Simple Language And Message System
+ * Copyright (C) 2023 Almighty-Satan, LeStegii
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.slams.papi;
+
+import io.github.almightysatan.slams.CachedPlaceholder;
+import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.bukkit.OfflinePlayerContext;
+import io.github.almightysatan.slams.standalone.PlaceholderStyle;
+import io.github.almightysatan.slams.standalone.StandaloneMessage;
+import io.github.almightysatan.slams.standalone.StandaloneSlams;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PapiTest {
+
+    @Test
+    public void testExpansionInvalidation() throws IOException {
+        Map<String, PlaceholderExpansion> expansions = new HashMap<>();
+        AtomicInteger lookups = new AtomicInteger();
+        PapiPlaceholder placeholder = new PapiPlaceholder(identifier -> {
+            lookups.incrementAndGet();
+            return expansions.get(identifier);
+        });
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, PlaceholderResolver.builder()
+                .add(placeholder)
+                .constant("identifier", "Test")
+                .build());
+        slams.load("0", values -> values.put("test", "<papi:test:a> <papi:<identifier>:b>"));
+
+        assertEquals("UNKNOWN_PAPI_EXPANSION UNKNOWN_PAPI_EXPANSION", entry.value());
+        int missing = lookups.get();
+
+        TestExpansion first = new TestExpansion("test", "1");
+        expansions.put("test", first);
+        assertEquals("1a 1b", entry.value()); // missing expansions are not remembered
+        assertEquals("1a 1b", entry.value());
+        assertEquals(missing + 1, lookups.get());
+
+        expansions.put("test", new TestExpansion("test", "2"));
+        assertEquals("1a 1b", entry.value());
+        PapiPlaceholder.invalidate(expansions.get("test")); // registered
+        assertEquals("2a 2b", entry.value());
+        assertEquals(missing + 2, lookups.get());
+
+        PapiPlaceholder.invalidate(expansions.remove("test")); // unregistered
+        assertEquals("UNKNOWN_PAPI_EXPANSION UNKNOWN_PAPI_EXPANSION", entry.value());
+    }
+
+    @Test
+    public void testCachedResults() throws IOException {
+        TestExpansion expansion = new TestExpansion("test", "");
+        CachedPlaceholder placeholder = PapiPlaceholder.cached(new PapiPlaceholder(identifier -> expansion), Duration.ofHours(1));
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, placeholder);
+        slams.load("0", values -> values.put("test", "<papi:test:a> <papi:test:b>"));
+        OfflinePlayerContext steve = OfflinePlayerContext.of(player(UUID.randomUUID()));
+        OfflinePlayerContext alex = OfflinePlayerContext.of(player(UUID.randomUUID()));
+
+        assertEquals("a b", entry.value(steve));
+        assertEquals("a b", entry.value(steve));
+        assertEquals("a b", entry.value(alex));
+        assertEquals(4, expansion.requests.get()); // per player, identifier and parameters
+        assertEquals(4, placeholder.size());
+        assertEquals(2, placeholder.hits());
+
+        assertEquals("a b", entry.value());
+        assertEquals(6, expansion.requests.get()); // not cached without a player
+        assertEquals(4, placeholder.size());
+
+        placeholder.invalidate(steve.player().getUniqueId());
+        assertEquals("a b", entry.value(steve));
+        assertEquals(8, expansion.requests.get());
+    }
+
+    private static @NotNull OfflinePlayer player(@NotNull UUID uuid) {
+        return (OfflinePlayer) Proxy.newProxyInstance(PapiTest.class.getClassLoader(), new Class[]{OfflinePlayer.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getUniqueId"))
+                return uuid;
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static class TestExpansion extends PlaceholderExpansion {
+
+        private final String identifier;
+        private final String prefix;
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private TestExpansion(@NotNull String identifier, @NotNull String prefix) {
+            this.identifier = identifier;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public @NotNull String getIdentifier() {
+            return this.identifier;
+        }
+
+        @Override
+        public @NotNull String getAuthor() {
+            return "SLAMS";
+        }
+
+        @Override
+        public @NotNull String getVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public @Nullable String onRequest(@Nullable OfflinePlayer player, @NotNull String params) {
+            this.requests.incrementAndGet();
+            return this.prefix + params;
+        }
+    }
+}
@@ -6,3 +6,4 @@ include("standalone")
 include("parser-jaskl")
 include("papi")
 include("bukkit")
+include("benchmarks")
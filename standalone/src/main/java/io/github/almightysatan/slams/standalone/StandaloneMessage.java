@@ -22,14 +22,21 @@ package io.github.almightysatan.slams.standalone;
 
 import io.github.almightysatan.slams.Message;
 import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.PlaceholderSchema;
 import io.github.almightysatan.slams.Slams;
 import io.github.almightysatan.slams.Translation;
+import io.github.almightysatan.slams.UnknownPlaceholderException;
 import io.github.almightysatan.slams.impl.MessageImpl;
 import io.github.almightysatan.slams.standalone.impl.StandaloneTypes;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a {@link Message} in Standalone format. The value of this message is a String.
+ * <p>
+ * Translations are compiled when a language is loaded. For debugging purposes, {@link Translation#toString()} of a
+ * {@link Translation} returned by {@link #translate} describes the compiled (and possibly partially evaluated)
+ * template.
  */
 public interface StandaloneMessage extends StandaloneGenericMessage<String> {
 
@@ -43,6 +50,24 @@ public interface StandaloneMessage extends StandaloneGenericMessage<String> {
      * @return a new {@link StandaloneMessage}
      */
     static @NotNull StandaloneMessage of(@NotNull String path, @NotNull StandaloneSlams slams, @NotNull PlaceholderResolver placeholderResolver) {
+        return of(path, slams, placeholderResolver, null);
+    }
+
+    /**
+     * Creates a new {@link StandaloneMessage} with the given path, {@link StandaloneSlams}, {@link PlaceholderResolver}
+     * and {@link PlaceholderSchema}. Local placeholders are bound to the slots of the schema when a language is loaded,
+     * values can then be passed using {@link PlaceholderSchema#bind(Object...)}. Loading a language throws an
+     * {@link UnknownPlaceholderException} if a translation uses a placeholder that is neither resolved by the
+     * {@link PlaceholderResolver} nor declared by the schema.
+     *
+     * @param path                the case-sensitive dotted path of this message. For example 'path.to.example.message'
+     * @param slams               the language manager (slams instance) to use
+     * @param placeholderResolver the tag resolver
+     * @param schema              the schema of local placeholders or {@code null} to allow any local placeholder
+     * @return a new {@link StandaloneMessage}
+     */
+    static @NotNull StandaloneMessage of(@NotNull String path, @NotNull StandaloneSlams slams, @NotNull PlaceholderResolver placeholderResolver,
+            @Nullable PlaceholderSchema schema) {
         class StandaloneMessageImpl extends MessageImpl<String> implements StandaloneMessage {
 
             protected StandaloneMessageImpl() {
@@ -51,7 +76,7 @@ public interface StandaloneMessage extends StandaloneGenericMessage<String> {
 
             @Override
             protected @NotNull Translation<String> toMessageValue(@NotNull Object value) {
-                return StandaloneTypes.messageValue(slams, placeholderResolver, value);
+                return StandaloneTypes.messageValue(slams, placeholderResolver, schema, value);
             }
         }
         return new StandaloneMessageImpl();
@@ -20,6 +20,7 @@
 
 package io.github.almightysatan.slams.standalone;
 
+import io.github.almightysatan.slams.Instrumentation;
 import io.github.almightysatan.slams.LanguageParser;
 import io.github.almightysatan.slams.Slams;
 import io.github.almightysatan.slams.impl.Language;
@@ -31,8 +32,10 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * An extension of the {@link Slams} interface that contains additional methods for the standalone format.
@@ -111,11 +114,26 @@ public interface StandaloneSlams extends Slams {
                 slams.load(identifier, parsers);
             }
 
+            @Override
+            public void loadAll(@NotNull Map<@NotNull String, @NotNull LanguageParser @NotNull []> languages, @NotNull Executor executor) throws IOException {
+                slams.loadAll(languages, executor);
+            }
+
             @Override
             public void reload() throws IOException {
                 slams.reload();
             }
 
+            @Override
+            public void reload(@NotNull Executor executor) throws IOException {
+                slams.reload(executor);
+            }
+
+            @Override
+            public @NotNull @Unmodifiable Map<@NotNull String, @NotNull @Unmodifiable Set<@NotNull String>> reloadChanged() throws IOException {
+                return slams.reloadChanged();
+            }
+
             @Override
             public @NotNull Collection<@NotNull String> languages() {
                 return slams.languages();
@@ -126,6 +144,11 @@ public interface StandaloneSlams extends Slams {
                 return slams.defaultLanguageIdentifier();
             }
 
+            @Override
+            public @NotNull Instrumentation instrumentation() {
+                return slams.instrumentation();
+            }
+
             @Override
             public @NotNull Language language(@Nullable String identifier) {
                 return ((SlamsInternal) slams).language(identifier);
@@ -135,6 +158,11 @@ public interface StandaloneSlams extends Slams {
             public @NotNull Language defaultLanguage() {
                 return ((SlamsInternal) slams).defaultLanguage();
             }
+
+            @Override
+            public void addReloadListener(@NotNull ReloadListener listener) {
+                ((SlamsInternal) slams).addReloadListener(listener);
+            }
         }
         return new StandaloneSlamsImpl();
     }
@@ -25,12 +25,17 @@ import io.github.almightysatan.slams.Placeholder;
 import io.github.almightysatan.slams.Placeholder.Argument;
 import io.github.almightysatan.slams.Placeholder.ProcessedPlaceholder;
 import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.PlaceholderSchema;
+import io.github.almightysatan.slams.UnknownPlaceholderException;
 import io.github.almightysatan.slams.impl.ArgumentList;
+import io.github.almightysatan.slams.impl.BoundPlaceholderResolver;
+import io.github.almightysatan.slams.impl.PartialEvaluation;
 import io.github.almightysatan.slams.impl.LazyEvalList;
 import io.github.almightysatan.slams.standalone.PlaceholderStyle;
 import io.github.almightysatan.slams.standalone.StandaloneSlams;
 import org.jetbrains.annotations.*;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -50,10 +55,19 @@ public abstract class CompositeComponent<T> implements Component<T> {
     }
 
     protected CompositeComponent(@NotNull StandaloneSlams slams, @NotNull String raw, @NotNull PlaceholderResolver placeholderResolver) {
+        this(slams, raw, placeholderResolver, null);
+    }
+
+    /**
+     * Parses the given string. If a {@link PlaceholderSchema} is given, local placeholders are bound to its slots and
+     * an {@link UnknownPlaceholderException} is thrown if a local placeholder is not declared by the schema.
+     */
+    protected CompositeComponent(@NotNull StandaloneSlams slams, @NotNull String raw, @NotNull PlaceholderResolver placeholderResolver,
+            @Nullable PlaceholderSchema schema) {
         Objects.requireNonNull(slams);
         Objects.requireNonNull(raw);
         Objects.requireNonNull(placeholderResolver);
-        this.components = this.processString(slams, raw, placeholderResolver);
+        this.components = this.processString(slams, raw, placeholderResolver, schema);
         this.constexpr = Arrays.stream(this.components).allMatch(Component::constexpr);
     }
 
@@ -80,6 +94,12 @@ public abstract class CompositeComponent<T> implements Component<T> {
             component.stringValue(placeholderResolver, contexts, consumer);
     }
 
+    @Override
+    public void writeTo(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts, @NotNull Appendable appendable) throws IOException {
+        for (Component<T> component : this.components)
+            component.writeTo(placeholderResolver, contexts, appendable);
+    }
+
     @Override
     public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
         StringBuilder stringBuilder = new StringBuilder();
@@ -92,25 +112,80 @@ public abstract class CompositeComponent<T> implements Component<T> {
         return this.constexpr;
     }
 
-    protected @NotNull Component<T> globalPlaceholder(@NotNull Placeholder.ProcessedPlaceholder<T> placeholder,
+    /**
+     * Returns a description of the compiled template for debugging purposes. Text and constants that have been
+     * evaluated when the message was loaded are quoted, placeholders are shown as {@code key(arguments)}. Local
+     * placeholders are prefixed with {@code local:}, placeholders bound to a {@link PlaceholderSchema} with
+     * {@code slot<index>:}.
+     *
+     * @return a description of this component
+     */
+    @Override
+    public String toString() {
+        if (this.components.length == 0)
+            return "\"\"";
+        return Arrays.stream(this.components).map(CompositeComponent::describe).collect(Collectors.joining(" + "));
+    }
+
+    private static @NotNull String describe(@NotNull Component<?> component) {
+        if (!isConstant(component))
+            return component.toString();
+        String value = component.stringValue(PlaceholderResolver.empty(), EMPTY_CONTEXTS);
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    /**
+     * Returns {@code true} if the given {@link Component} is text or a value that has been evaluated when the message
+     * was loaded. Evaluating such a {@link Component} has no side effects.
+     *
+     * @param component the {@link Component}
+     * @return whether the {@link Component} is constant
+     */
+    protected static boolean isConstant(@NotNull Component<?> component) {
+        return component.constexpr() && !(component instanceof CompositeComponent) && !(component instanceof CompositeComponent.PlaceholderNode);
+    }
+
+    protected @NotNull Component<T> globalPlaceholder(@NotNull String key, @NotNull Placeholder.ProcessedPlaceholder<T> placeholder,
             @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, boolean constexpr) {
-        return new Component<T>() {
+        return new PlaceholderNode(key, arguments) {
             @Override
             public @NotNull T value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
-                return placeholder.value(contexts, new ArgumentList<>(arguments, placeholderResolver, contexts),
-                        CompositeComponent.this.factory()).value(placeholderResolver, contexts);
+                ArgumentList<T> argumentList = ArgumentList.acquire(arguments, placeholderResolver, contexts);
+                try {
+                    return placeholder.value(contexts, argumentList, CompositeComponent.this.factory()).value(placeholderResolver, contexts);
+                } finally {
+                    argumentList.release();
+                }
             }
 
             @Override
             public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
-                return placeholder.value(contexts, new ArgumentList<>(arguments, placeholderResolver, contexts),
-                        CompositeComponent.this.factory()).stringValue(placeholderResolver, contexts);
+                ArgumentList<T> argumentList = ArgumentList.acquire(arguments, placeholderResolver, contexts);
+                try {
+                    return placeholder.value(contexts, argumentList, CompositeComponent.this.factory()).stringValue(placeholderResolver, contexts);
+                } finally {
+                    argumentList.release();
+                }
             }
 
             @Override
             public @Nullable Object rawValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
-                return placeholder.value(contexts, new ArgumentList<>(arguments, placeholderResolver, contexts),
-                        CompositeComponent.this.factory()).rawValue(placeholderResolver, contexts);
+                ArgumentList<T> argumentList = ArgumentList.acquire(arguments, placeholderResolver, contexts);
+                try {
+                    return placeholder.value(contexts, argumentList, CompositeComponent.this.factory()).rawValue(placeholderResolver, contexts);
+                } finally {
+                    argumentList.release();
+                }
+            }
+
+            @Override
+            public void writeTo(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts, @NotNull Appendable appendable) throws IOException {
+                ArgumentList<T> argumentList = ArgumentList.acquire(arguments, placeholderResolver, contexts);
+                try {
+                    placeholder.value(contexts, argumentList, CompositeComponent.this.factory()).writeTo(placeholderResolver, contexts, appendable);
+                } finally {
+                    argumentList.release();
+                }
             }
 
             @Override
@@ -120,8 +195,15 @@ public abstract class CompositeComponent<T> implements Component<T> {
         };
     }
 
+    /**
+     * Creates a {@link Component} for a placeholder resolved by the message's {@link PlaceholderResolver}. Constant
+     * arguments are passed to {@link Placeholder#processArguments}. If {@code partialEval} is {@code true} and the
+     * result is known at this point (see {@link ProcessedPlaceholder#constant} and
+     * {@link ProcessedPlaceholder#argument}), the placeholder is replaced with its result.
+     */
     protected @NotNull Component<T> globalPlaceholder(@NotNull Placeholder placeholder,
-            @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, boolean constexpr, long constexprArgs) {
+            @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, boolean constexpr, long constexprArgs,
+            boolean partialEval) {
         if (constexprArgs != 0) {
             List<Argument<T>> args = arguments.stream().map(arg -> {
                 if (!arg.constexpr())
@@ -129,10 +211,20 @@ public abstract class CompositeComponent<T> implements Component<T> {
                 return ArgumentList.toArgument(arg, PlaceholderResolver.empty(), EMPTY_CONTEXTS);
             }).collect(Collectors.toList());
             ProcessedPlaceholder<T> intermediate = placeholder.processArguments(args, this.factory());
-            if (intermediate != null)
-                return globalPlaceholder(intermediate, arguments, constexpr);
+            if (intermediate != null) {
+                if (partialEval) {
+                    if (intermediate instanceof PartialEvaluation.Constant)
+                        return ((PartialEvaluation.Constant<T>) intermediate).component();
+                    if (intermediate instanceof PartialEvaluation.Selection) {
+                        int index = ((PartialEvaluation.Selection<T>) intermediate).index();
+                        if (index >= 0 && index < arguments.size())
+                            return arguments.get(index);
+                    }
+                }
+                return this.globalPlaceholder(placeholder.key(), intermediate, arguments, constexpr);
+            }
         }
-        return this.globalPlaceholder(placeholder::value, arguments, constexpr);
+        return this.globalPlaceholder(placeholder.key(), placeholder::value, arguments, constexpr);
     }
 
     protected @NotNull Component<T> constGlobalPlaceholder(@NotNull Placeholder placeholder,
@@ -149,38 +241,32 @@ public abstract class CompositeComponent<T> implements Component<T> {
     }
 
     protected @NotNull Component<T> localPlaceholder(@NotNull String raw, @NotNull String key,
-            @Unmodifiable @NotNull List<@NotNull Component<T>> arguments) {
-        return new Component<T>() {
+            @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, @NotNull StandaloneSlams slams) {
+        return new LocalPlaceholder(raw, key, arguments, slams) {
             @Override
-            public @NotNull T value(@NotNull PlaceholderResolver placeholderResolver0, @NotNull Object @NotNull [] contexts) {
-                Placeholder placeholder0 = placeholderResolver0.resolve(key);
-                if (placeholder0 == null)
-                    return CompositeComponent.this.factory().value(raw);
-                return placeholder0.value(contexts, new ArgumentList<>(arguments, placeholderResolver0, contexts),
-                        CompositeComponent.this.factory()).value(placeholderResolver0, contexts);
+            protected @Nullable Object lookup(@NotNull PlaceholderResolver placeholderResolver) {
+                return placeholderResolver.resolve(key);
             }
 
             @Override
-            public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver0, @NotNull Object @NotNull [] contexts) {
-                Placeholder placeholder0 = placeholderResolver0.resolve(key);
-                if (placeholder0 == null)
-                    return raw;
-                return placeholder0.value(contexts, new ArgumentList<>(arguments, placeholderResolver0, contexts),
-                        CompositeComponent.this.factory()).stringValue(placeholderResolver0, contexts);
+            protected @NotNull String label() {
+                return "local:" + key;
             }
+        };
+    }
 
+    protected @NotNull Component<T> slotPlaceholder(@NotNull String raw, @NotNull String key,
+            @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, @NotNull StandaloneSlams slams,
+            @NotNull PlaceholderSchema schema, int slot) {
+        return new LocalPlaceholder(raw, key, arguments, slams) {
             @Override
-            public @Nullable Object rawValue(@NotNull PlaceholderResolver placeholderResolver0, @NotNull Object @NotNull [] contexts) {
-                Placeholder placeholder0 = placeholderResolver0.resolve(key);
-                if (placeholder0 == null)
-                    return null;
-                return placeholder0.value(contexts, new ArgumentList<>(arguments, placeholderResolver0, contexts),
-                        CompositeComponent.this.factory()).rawValue(placeholderResolver0, contexts);
+            protected @Nullable Object lookup(@NotNull PlaceholderResolver placeholderResolver) {
+                return BoundPlaceholderResolver.lookup(placeholderResolver, schema, slot, key);
             }
 
             @Override
-            public boolean constexpr() {
-                return false; // local placeholders can not be inlined
+            protected @NotNull String label() {
+                return "slot" + slot + ":" + key;
             }
         };
     }
@@ -188,6 +274,12 @@ public abstract class CompositeComponent<T> implements Component<T> {
     protected @NotNull Component<T> placeholder(@NotNull String raw, @NotNull String key,
             @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, @NotNull PlaceholderResolver placeholderResolver,
             @NotNull StandaloneSlams slams) {
+        return this.placeholder(raw, key, arguments, placeholderResolver, null, slams);
+    }
+
+    protected @NotNull Component<T> placeholder(@NotNull String raw, @NotNull String key,
+            @Unmodifiable @NotNull List<@NotNull Component<T>> arguments, @NotNull PlaceholderResolver placeholderResolver,
+            @Nullable PlaceholderSchema schema, @NotNull StandaloneSlams slams) {
         if (key.isEmpty())
             return this.factory().component(raw);
 
@@ -197,9 +289,15 @@ public abstract class CompositeComponent<T> implements Component<T> {
             boolean constexpr = globalPlaceholder.constexpr() && arguments.size() == constexprArgs;
             if (constexpr && slams.enableConstexprEval())
                 return this.constGlobalPlaceholder(globalPlaceholder, arguments);
-            return this.globalPlaceholder(globalPlaceholder, arguments, constexpr, constexprArgs);
+            return this.globalPlaceholder(globalPlaceholder, arguments, constexpr, constexprArgs, slams.enableConstexprEval());
+        }
+        if (schema != null) {
+            int slot = schema.slot(key);
+            if (slot < 0)
+                throw new UnknownPlaceholderException(key);
+            return this.slotPlaceholder(raw, key, arguments, slams, schema, slot);
         }
-        return this.localPlaceholder(raw, key, arguments);
+        return this.localPlaceholder(raw, key, arguments, slams);
     }
 
     protected abstract @NotNull CompositeComponent<T> composite(@NotNull Component<T>[] components);
@@ -237,87 +335,284 @@ public abstract class CompositeComponent<T> implements Component<T> {
 
     protected @NotNull Component<T> @NotNull [] processString(@NotNull StandaloneSlams slams, @NotNull String input,
             @NotNull PlaceholderResolver placeholderResolver) {
+        return this.processString(slams, input, placeholderResolver, null);
+    }
+
+    protected @NotNull Component<T> @NotNull [] processString(@NotNull StandaloneSlams slams, @NotNull String input,
+            @NotNull PlaceholderResolver placeholderResolver, @Nullable PlaceholderSchema schema) {
         PlaceholderStyle style = slams.style();
         char headChar = style.head();
         char tailChar = style.tail();
         char separatorChar = style.separator();
 
+        // Placeholders are tracked on an explicit stack, so deeply nested placeholders do not require recursion
         List<Component<T>> components = new ArrayList<>();
-        StringBuilder raw = new StringBuilder(input.length());
-        List<String> arguments = new ArrayList<>();
-        StringBuilder argument = new StringBuilder();
-        int scope = 0;
-        boolean nested = false;
-        boolean escape = false;
-        for (char c : input.toCharArray()) {
+        Deque<PlaceholderFrame> frames = new ArrayDeque<>();
+        int start = 0; // start of the current text segment
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
             if (c == '\\') {
-                escape = !escape;
-                if (escape)
-                    continue;
+                i++; // the next char is not interpreted
+                continue;
             }
 
-            if (escape) {
-                escape = false;
-                raw.append(c);
-                if (scope > 0)
-                    argument.append(c);
-                continue;
+            PlaceholderFrame frame = frames.peek();
+            if (frame != null && c == tailChar) {
+                frame.endArgument(input, start, i);
+                frames.pop();
+                Component<T> component = frame.toComponent(slams, input, i, placeholderResolver, schema);
+                PlaceholderFrame parent = frames.peek();
+                if (parent == null)
+                    components.add(component);
+                else
+                    parent.add(component);
+                start = i + 1;
+            } else if (c == headChar) {
+                if (frame == null)
+                    this.addText(components, input, start, i);
+                else
+                    frame.addText(input, start, i);
+                frames.push(new PlaceholderFrame(i));
+                start = i + 1;
+            } else if (frame != null && c == separatorChar) {
+                frame.endArgument(input, start, i);
+                start = i + 1;
             }
+        }
 
-            if (c == headChar && (tailChar != headChar || scope == 0)) {
-                if (++scope == 1) {
-                    if (raw.length() > 0) {
-                        components.add(this.factory().component(raw.toString()));
-                        raw.setLength(0);
-                    }
-                    raw.append(c);
-                    continue;
-                } else
-                    nested = true;
+        if (!frames.isEmpty())
+            start = frames.getLast().start; // placeholders that are not closed are treated as text
+        this.addText(components, input, start, length);
+
+        this.inline(slams, components);
+        return this.toArray(components);
+    }
+
+    private void addText(@NotNull List<Component<T>> components, @NotNull String input, int start, int end) {
+        if (start < end) {
+            String text = unescape(input, start, end);
+            if (!text.isEmpty())
+                components.add(this.factory().component(text));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Component<T> @NotNull [] toArray(@NotNull List<Component<T>> components) {
+        return components.toArray(new Component[0]);
+    }
+
+    /**
+     * Returns the given part of the input with escape characters removed. Does not copy the input if it does not
+     * contain any escape characters.
+     */
+    private static @NotNull String unescape(@NotNull String input, int start, int end) {
+        int index = start;
+        while (index < end && input.charAt(index) != '\\')
+            index++;
+        if (index == end)
+            return input.substring(start, end);
+
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(input, start, index);
+        for (int i = index; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '\\') {
+                if (++i == end)
+                    break;
+                c = input.charAt(i);
             }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
 
-            raw.append(c);
-
-            if (scope > 0) {
-                if (c == tailChar && --scope == 0) {
-                    arguments.add(argument.toString());
-
-                    String key = arguments.remove(0);
-                    if (nested)
-                        components.add(this.placeholder(raw.toString(), key, Collections.unmodifiableList(arguments.stream()
-                                .map(arg -> {
-                                    Component<T>[] children = this.processString(slams, arg, placeholderResolver);
-                                    if (children.length == 1)
-                                        return children[0];
-                                    return this.composite(children);
-                                })
-                                .collect(Collectors.toList())), placeholderResolver, slams));
-                    else
-                        components.add(this.placeholder(raw.toString(), key,
-                                new LazyEvalList<>(this.factory()::component, arguments), placeholderResolver, slams));
-
-                    nested = false;
-                    raw.setLength(0);
-                    argument.setLength(0);
-                    arguments = new ArrayList<>();
-                    continue;
-                }
+    /**
+     * A {@link Component} that evaluates a placeholder. {@link #toString()} describes the placeholder and its arguments.
+     */
+    private abstract class PlaceholderNode implements Component<T> {
 
-                if (scope == 1 && c == separatorChar) {
-                    arguments.add(argument.toString());
-                    argument.setLength(0);
-                } else
-                    argument.append(c);
+        protected final String key;
+        protected final List<Component<T>> arguments;
+
+        private PlaceholderNode(@NotNull String key, @Unmodifiable @NotNull List<@NotNull Component<T>> arguments) {
+            this.key = key;
+            this.arguments = arguments;
+        }
+
+        protected @NotNull String label() {
+            return this.key;
+        }
+
+        @Override
+        public String toString() {
+            if (this.arguments.isEmpty())
+                return this.label();
+            return this.arguments.stream().map(CompositeComponent::describe).collect(Collectors.joining(", ", this.label() + "(", ")"));
+        }
+    }
+
+    /**
+     * A placeholder that is resolved when the message is rendered. {@link #lookup(PlaceholderResolver)} returns either
+     * a {@link Placeholder}, a constant value (see {@link PlaceholderSchema#bind(Object...)}) or {@code null} if the
+     * placeholder is not resolved, in which case its raw text is used.
+     */
+    private abstract class LocalPlaceholder extends PlaceholderNode {
+
+        private final String raw;
+        private final StandaloneSlams slams;
+
+        private LocalPlaceholder(@NotNull String raw, @NotNull String key, @Unmodifiable @NotNull List<@NotNull Component<T>> arguments,
+                @NotNull StandaloneSlams slams) {
+            super(key, arguments);
+            this.raw = raw;
+            this.slams = slams;
+        }
+
+        protected abstract @Nullable Object lookup(@NotNull PlaceholderResolver placeholderResolver);
+
+        private @Nullable Object resolve(@NotNull PlaceholderResolver placeholderResolver) {
+            Object value = this.lookup(placeholderResolver);
+            if (value == null)
+                this.slams.instrumentation().placeholderMiss(this.key);
+            return value;
+        }
+
+        @Override
+        public @NotNull T value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            Object value = this.resolve(placeholderResolver);
+            if (value == null)
+                return CompositeComponent.this.factory().value(this.raw);
+            if (!(value instanceof Placeholder))
+                return CompositeComponent.this.factory().value(String.valueOf(value));
+            ArgumentList<T> argumentList = ArgumentList.acquire(this.arguments, placeholderResolver, contexts);
+            try {
+                return ((Placeholder) value).value(contexts, argumentList, CompositeComponent.this.factory()).value(placeholderResolver, contexts);
+            } finally {
+                argumentList.release();
             }
         }
 
-        if (raw.length() > 0)
-            components.add(this.factory().component(raw.toString()));
+        @Override
+        public @NotNull String stringValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            Object value = this.resolve(placeholderResolver);
+            if (value == null)
+                return this.raw;
+            if (!(value instanceof Placeholder))
+                return String.valueOf(value);
+            ArgumentList<T> argumentList = ArgumentList.acquire(this.arguments, placeholderResolver, contexts);
+            try {
+                return ((Placeholder) value).value(contexts, argumentList, CompositeComponent.this.factory()).stringValue(placeholderResolver, contexts);
+            } finally {
+                argumentList.release();
+            }
+        }
 
-        this.inline(slams, components);
+        @Override
+        public @Nullable Object rawValue(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts) {
+            Object value = this.resolve(placeholderResolver);
+            if (!(value instanceof Placeholder))
+                return value;
+            ArgumentList<T> argumentList = ArgumentList.acquire(this.arguments, placeholderResolver, contexts);
+            try {
+                return ((Placeholder) value).value(contexts, argumentList, CompositeComponent.this.factory()).rawValue(placeholderResolver, contexts);
+            } finally {
+                argumentList.release();
+            }
+        }
+
+        @Override
+        public void writeTo(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull [] contexts, @NotNull Appendable appendable) throws IOException {
+            Object value = this.resolve(placeholderResolver);
+            if (value == null) {
+                appendable.append(this.raw);
+                return;
+            }
+            if (!(value instanceof Placeholder)) {
+                appendable.append(String.valueOf(value));
+                return;
+            }
+            ArgumentList<T> argumentList = ArgumentList.acquire(this.arguments, placeholderResolver, contexts);
+            try {
+                ((Placeholder) value).value(contexts, argumentList, CompositeComponent.this.factory()).writeTo(placeholderResolver, contexts, appendable);
+            } finally {
+                argumentList.release();
+            }
+        }
+
+        @Override
+        public boolean constexpr() {
+            return false; // local placeholders can not be inlined
+        }
+    }
+
+    /**
+     * A placeholder that is currently being parsed. Arguments are stored as index ranges into the input.
+     * {@link Component Components} are only created for arguments that contain nested placeholders.
+     */
+    private class PlaceholderFrame {
+
+        private final int start;
+        private int argumentStart;
+        private int[] bounds = new int[8];
+        private int arguments;
+        private final List<List<Component<T>>> argumentParts = new ArrayList<>();
+        private List<Component<T>> parts;
+        private boolean nested;
+
+        private PlaceholderFrame(int start) {
+            this.start = start;
+            this.argumentStart = start + 1;
+        }
 
-        @SuppressWarnings("unchecked")
-        Component<T>[] result = components.toArray(new Component[0]);
-        return result;
+        private void addText(@NotNull String input, int start, int end) {
+            if (this.parts == null)
+                this.parts = new ArrayList<>();
+            CompositeComponent.this.addText(this.parts, input, start, end);
+        }
+
+        private void add(@NotNull Component<T> component) {
+            this.parts.add(component);
+            this.nested = true;
+        }
+
+        private void endArgument(@NotNull String input, int start, int end) {
+            if (this.parts != null)
+                CompositeComponent.this.addText(this.parts, input, start, end);
+            if (this.bounds.length == this.arguments * 2)
+                this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+            this.bounds[this.arguments * 2] = this.argumentStart;
+            this.bounds[this.arguments * 2 + 1] = end;
+            this.arguments++;
+            this.argumentParts.add(this.parts);
+            this.parts = null;
+            this.argumentStart = end + 1;
+        }
+
+        private @NotNull Component<T> toComponent(@NotNull StandaloneSlams slams, @NotNull String input, int end,
+                @NotNull PlaceholderResolver placeholderResolver, @Nullable PlaceholderSchema schema) {
+            String raw = unescape(input, this.start, end + 1);
+            String key = unescape(input, this.bounds[0], this.bounds[1]);
+
+            if (!this.nested) {
+                List<String> arguments = new ArrayList<>(this.arguments - 1);
+                for (int i = 1; i < this.arguments; i++)
+                    arguments.add(unescape(input, this.bounds[i * 2], this.bounds[i * 2 + 1]));
+                return CompositeComponent.this.placeholder(raw, key,
+                        new LazyEvalList<>(CompositeComponent.this.factory()::component, arguments), placeholderResolver, schema, slams);
+            }
+
+            List<Component<T>> arguments = new ArrayList<>(this.arguments - 1);
+            for (int i = 1; i < this.arguments; i++) {
+                List<Component<T>> parts = this.argumentParts.get(i);
+                if (parts == null) {
+                    String text = unescape(input, this.bounds[i * 2], this.bounds[i * 2 + 1]);
+                    parts = text.isEmpty() ? Collections.emptyList() : Collections.singletonList(CompositeComponent.this.factory().component(text));
+                } else
+                    CompositeComponent.this.inline(slams, parts);
+                arguments.add(parts.size() == 1 ? parts.get(0) : CompositeComponent.this.composite(CompositeComponent.this.toArray(parts)));
+            }
+            return CompositeComponent.this.placeholder(raw, key, Collections.unmodifiableList(arguments), placeholderResolver, schema, slams);
+        }
     }
 }
@@ -22,9 +22,11 @@ package io.github.almightysatan.slams.standalone.impl;
 
 import io.github.almightysatan.slams.Component;
 import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.PlaceholderSchema;
 import io.github.almightysatan.slams.standalone.StandaloneSlams;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -35,6 +37,11 @@ public class StandaloneCompositeComponent extends CompositeComponent<String> {
         super(slams, raw, placeholderResolver);
     }
 
+    public StandaloneCompositeComponent(@NotNull StandaloneSlams slams, @NotNull String raw, @NotNull PlaceholderResolver placeholderResolver,
+            @Nullable PlaceholderSchema schema) {
+        super(slams, raw, placeholderResolver, schema);
+    }
+
     public StandaloneCompositeComponent(@NotNull Component<String>[] components) {
         super(components);
     }
@@ -22,17 +22,42 @@ package io.github.almightysatan.slams.standalone.impl;
 
 import io.github.almightysatan.slams.InvalidTypeException;
 import io.github.almightysatan.slams.PlaceholderResolver;
+import io.github.almightysatan.slams.PlaceholderSchema;
 import io.github.almightysatan.slams.Translation;
+import io.github.almightysatan.slams.UnknownPlaceholderException;
 import io.github.almightysatan.slams.impl.Types;
 import io.github.almightysatan.slams.standalone.StandaloneSlams;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
 
 @ApiStatus.Internal
 public interface StandaloneTypes {
 
     static @NotNull Translation<String> messageValue(@NotNull StandaloneSlams slams, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object input) throws InvalidTypeException {
-        StandaloneCompositeComponent component = new StandaloneCompositeComponent(slams, Types.checkString(input), placeholderResolver);
-        return component::value;
+        return messageValue(slams, placeholderResolver, null, input);
+    }
+
+    static @NotNull Translation<String> messageValue(@NotNull StandaloneSlams slams, @NotNull PlaceholderResolver placeholderResolver,
+            @Nullable PlaceholderSchema schema, @NotNull Object input) throws InvalidTypeException, UnknownPlaceholderException {
+        StandaloneCompositeComponent component = new StandaloneCompositeComponent(slams, Types.checkString(input), placeholderResolver, schema);
+        return new Translation<String>() {
+            @Override
+            public @NotNull String value(@NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) {
+                return component.value(placeholderResolver, contexts);
+            }
+
+            @Override
+            public void renderTo(@NotNull Appendable appendable, @NotNull PlaceholderResolver placeholderResolver, @NotNull Object @NotNull ... contexts) throws IOException {
+                component.writeTo(placeholderResolver, contexts, appendable);
+            }
+
+            @Override
+            public String toString() {
+                return component.toString();
+            }
+        };
     }
 }
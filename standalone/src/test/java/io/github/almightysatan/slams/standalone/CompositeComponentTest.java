@@ -29,6 +29,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -205,6 +210,104 @@ public class CompositeComponentTest {
         this.assertPlaceholders(eval);
     }
 
+    @ParameterizedTest
+    @MethodSource("optimizationArguments")
+    public void testNumericPlaceholders(boolean enableConstexprEval, boolean enableInline) {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, enableConstexprEval, enableInline);
+        PlaceholderResolver local = PlaceholderResolver.builder()
+                .constant("int", 42)
+                .constant("max", Long.MAX_VALUE)
+                .constant("double", 0.1)
+                .constant("decimal", new BigDecimal("2.50"))
+                .constant("nan", Double.NaN)
+                .build();
+        Function<String, String> eval = input -> new StandaloneCompositeComponent(slams, input, PlaceholderResolver.builtInPlaceholders()).value(local, new Object[0]);
+
+        Assertions.assertEquals("T", eval.apply("<if_num_gt:<int>:10:T:F>"));
+        Assertions.assertEquals("T", eval.apply("<if_num_eq:<int>:42.0:T:F>"));
+        Assertions.assertEquals("T", eval.apply("<if_num_lt:<double>:<decimal>:T:F>"));
+        Assertions.assertEquals("T", eval.apply("<if_num_eq:0.0:-0:T:F>"));
+        Assertions.assertEquals(Placeholder.INVALID_ARGUMENTS, eval.apply("<if_num_eq:<nan>:1:T:F>"));
+        Assertions.assertEquals("84", eval.apply("<mul:<int>:2>"));
+        Assertions.assertEquals("9223372036854775808", eval.apply("<add:<max>:1>"));
+        Assertions.assertEquals("0.3", eval.apply("<add:<double>:0.2>"));
+        Assertions.assertEquals("44.50", eval.apply("<add:<int>:<decimal>>"));
+        Assertions.assertEquals("21", eval.apply("<div:<int>:2>"));
+        Assertions.assertEquals("10.5", eval.apply("<div:<int>:4>"));
+        Assertions.assertEquals("5.0", eval.apply("<add:2.5:2.5>"));
+        Assertions.assertEquals(Placeholder.INVALID_ARGUMENTS, eval.apply("<add:<int>:abc>"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("optimizationArguments")
+    public void testDateFormatPlaceholder(boolean enableConstexprEval, boolean enableInline) {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, enableConstexprEval, enableInline);
+        long[] millis = {Instant.parse("2024-01-02T03:04:05.678Z").toEpochMilli()};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis[0]);
+            }
+        };
+        PlaceholderResolver placeholderResolver = PlaceholderResolver.builder().builtIn(clock).build();
+        PlaceholderResolver local = Placeholder.constant("pattern", "HH:mm:ss.SSS");
+
+        StandaloneCompositeComponent global = new StandaloneCompositeComponent(slams, "<sdf:yyyy-MM-dd HH\\:mm\\:ss>", placeholderResolver);
+        StandaloneCompositeComponent nested = new StandaloneCompositeComponent(slams, "<sdf:<pattern>>", placeholderResolver);
+        Assertions.assertEquals("2024-01-02 03:04:05", global.value());
+        Assertions.assertEquals("03:04:05.678", nested.value(local, new Object[0]));
+
+        millis[0] += 300;
+        Assertions.assertEquals("2024-01-02 03:04:05", global.value());
+        Assertions.assertEquals("03:04:05.978", nested.value(local, new Object[0]));
+
+        millis[0] += 300;
+        Assertions.assertEquals("2024-01-02 03:04:06", global.value());
+        Assertions.assertEquals("03:04:06.278", nested.value(local, new Object[0]));
+
+        Assertions.assertEquals(Placeholder.INVALID_FORMAT, new StandaloneCompositeComponent(slams, "<sdf:invalid>", placeholderResolver).value());
+        Assertions.assertEquals(Placeholder.INVALID_FORMAT, new StandaloneCompositeComponent(slams, "<sdf>", placeholderResolver).value());
+    }
+
+    @Test
+    public void testPartialEvaluation() {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS);
+        PlaceholderResolver placeholderResolver = PlaceholderResolver.builder()
+                .builtIn()
+                .constant("limit", 10)
+                .withArgs("upper", args -> args.get(0).toUpperCase())
+                .build();
+        PlaceholderResolver local = Placeholder.constant("name", "Steve");
+
+        StandaloneCompositeComponent component = new StandaloneCompositeComponent(slams,
+                "Hello <if_eq:<limit>:10:<name>:nobody>, <if_num_gt:<limit>:5:you are <upper:<name>>:x>!", placeholderResolver);
+        Assertions.assertEquals("Hello Steve, you are STEVE!", component.value(local, new Object[0]));
+        Assertions.assertEquals("\"Hello \" + local:name + \", \" + \"you are \" + upper(local:name) + \"!\"", component.toString());
+
+        component = new StandaloneCompositeComponent(slams, "<if_ne:<add:1:1>:2:yes>", placeholderResolver);
+        Assertions.assertEquals("", component.value());
+        Assertions.assertEquals("\"\"", component.toString());
+
+        component = new StandaloneCompositeComponent(slams, "<if_eq:<name>:Steve:yes:no>", placeholderResolver);
+        Assertions.assertEquals("yes", component.value(local, new Object[0]));
+        Assertions.assertEquals("if_eq(local:name, \"Steve\", \"yes\", \"no\")", component.toString());
+
+        StandaloneSlams slams0 = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, false, false);
+        component = new StandaloneCompositeComponent(slams0, "<if_eq:a:a:<name>:nobody>", placeholderResolver);
+        Assertions.assertEquals("Steve", component.value(local, new Object[0]));
+        Assertions.assertEquals("if_eq(\"a\", \"a\", local:name, \"nobody\")", component.toString());
+    }
+
     @Test
     public void testCaching() {
         StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS);
@@ -241,4 +344,44 @@ public class CompositeComponentTest {
         Assertions.assertEquals("worldworld", component2.value(PlaceholderResolver.empty(), new Object[0]));
         Assertions.assertEquals(1, component2.size());
     }
+
+    @ParameterizedTest
+    @MethodSource("optimizationArguments")
+    public void testNestedArguments(boolean enableConstexprEval, boolean enableInline) {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, enableConstexprEval, enableInline);
+        PlaceholderResolver placeholderResolver = PlaceholderResolver.of(
+                Placeholder.withArgs("join", arguments -> String.join("-", arguments)),
+                Placeholder.withArgs("first", arguments -> arguments.get(0)));
+        StandaloneCompositeComponent component = new StandaloneCompositeComponent(slams,
+                "<join:<first:a:b>:<join:c:<first:d>>:e>", placeholderResolver);
+
+        for (int i = 0; i < 3; i++)
+            Assertions.assertEquals("a-c-d-e", component.value(placeholderResolver, new Object[0]));
+    }
+
+    @Test
+    public void testDeepNesting() {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, true, true);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++)
+            builder.append("<x:");
+        for (int i = 0; i < 10000; i++)
+            builder.append('>');
+        String raw = builder.toString();
+
+        StandaloneCompositeComponent component = new StandaloneCompositeComponent(slams, raw, PlaceholderResolver.empty());
+        Assertions.assertEquals(1, component.size());
+        Assertions.assertEquals(raw, component.value());
+        Assertions.assertEquals(raw.substring(1), new StandaloneCompositeComponent(slams, raw.substring(1), PlaceholderResolver.empty()).value());
+    }
+
+    @ParameterizedTest
+    @MethodSource("optimizationArguments")
+    public void testEscapedNestedArguments(boolean enableConstexprEval, boolean enableInline) {
+        StandaloneSlams slams = StandaloneSlams.of("en", PlaceholderStyle.ANGLE_BRACKETS, enableConstexprEval, enableInline);
+        PlaceholderResolver placeholderResolver = PlaceholderResolver.of(Placeholder.withArgs("join", arguments -> String.join("-", arguments)),
+                Placeholder.constant("a", "A"));
+
+        Assertions.assertEquals("A-\\<a\\>-x:y", new StandaloneCompositeComponent(slams, "<join:<a>:\\\\\\<a\\\\\\>:x\\:y>", placeholderResolver).value());
+    }
 }
@@ -27,9 +27,14 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -300,4 +305,470 @@ public class StandaloneTest {
         String value = entry.value();
         assertEquals("Hello World", value);
     }
+
+    @Test
+    public void testReload() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+        String[] value = new String[]{"123"};
+
+        slams.load("0", values -> values.put("test", value[0]));
+        Translation<String> translation = entry.translate(null);
+        assertEquals("123", entry.value());
+
+        value[0] = "456";
+        slams.reload();
+        assertEquals("456", entry.value());
+        assertEquals("123", translation.value());
+    }
+
+    @Test
+    public void testFailedReload() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+        StandaloneMessage entry2 = StandaloneMessage.of("test2", slams);
+        boolean[] fail = new boolean[1];
+
+        slams.load("0", values -> values.put("test", "123"), values -> {
+            if (fail[0])
+                throw new IOException();
+            values.put("test2", "456");
+        });
+
+        fail[0] = true;
+        assertThrows(IOException.class, slams::reload);
+        assertEquals("123", entry.value());
+        assertEquals("456", entry2.value());
+    }
+
+    @Test
+    public void testReloadChanged() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+        StandaloneMessage entry2 = StandaloneMessage.of("test2", slams);
+        String[] value = new String[]{"123"};
+
+        slams.load("0", values -> {
+            values.put("test", value[0]);
+            values.put("test2", "456");
+        });
+        Translation<String> translation = entry.translate(null);
+        Translation<String> translation2 = entry2.translate(null);
+
+        assertEquals(Collections.singletonMap("0", Collections.emptySet()), slams.reloadChanged());
+        assertSame(translation, entry.translate(null));
+
+        value[0] = "789";
+        assertEquals(Collections.singletonMap("0", Collections.singleton("test")), slams.reloadChanged());
+        assertEquals("789", entry.value());
+        assertSame(translation2, entry2.translate(null));
+    }
+
+    @Test
+    public void testLoadAll() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, Placeholder.constant("test", "World"));
+        String[] value = new String[]{"Hello <test>"};
+
+        Map<String, LanguageParser[]> languages = new HashMap<>();
+        languages.put("0", new LanguageParser[]{values -> values.put("test", value[0])});
+        languages.put("1", new LanguageParser[]{values -> values.put("test", "Hallo"), values -> values.put("test", values.get("test") + " <test>")});
+        slams.loadAll(languages, ForkJoinPool.commonPool());
+
+        assertEquals("Hello World", entry.value());
+        assertEquals("Hallo World", entry.value("1"));
+
+        value[0] = "Hi <test>";
+        slams.reload(ForkJoinPool.commonPool());
+        assertEquals("Hi World", entry.value());
+        assertEquals("Hallo World", entry.value("1"));
+    }
+
+    @Test
+    public void testLoadAllException() {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        StandaloneMessage.of("test", slams);
+
+        Map<String, LanguageParser[]> languages = new HashMap<>();
+        languages.put("0", new LanguageParser[]{values -> values.put("test", "123")});
+        languages.put("1", new LanguageParser[]{values -> {
+            throw new IOException();
+        }});
+        assertThrows(IOException.class, () -> slams.loadAll(languages, ForkJoinPool.commonPool()));
+        assertTrue(slams.languages().isEmpty());
+
+        languages.put("1", new LanguageParser[0]);
+        assertThrows(MissingTranslationException.class, () -> slams.loadAll(languages, ForkJoinPool.commonPool()));
+        assertTrue(slams.languages().isEmpty());
+    }
+
+    @Test
+    public void testCachedMessage() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        int[] count = new int[1];
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, Placeholder.contextual("name", TestContext.class, context -> {
+            count[0]++;
+            return context.getName();
+        }));
+        CachedMessage<String> cached = CachedMessage.builder(entry).maximumSize(2).build();
+        String[] value = new String[]{"Hello <name>"};
+        TestContext context0 = new TestContext("A");
+        TestContext context1 = new TestContext("B");
+
+        slams.load("0", values -> values.put("test", value[0]));
+        assertEquals("Hello A", cached.value(context0));
+        assertEquals("Hello A", cached.value(context0));
+        assertEquals("Hello B", cached.value(context1));
+        assertEquals(2, count[0]);
+        assertEquals(1, cached.hits());
+        assertEquals(2, cached.misses());
+
+        cached.invalidate(context0);
+        assertEquals(1, cached.size());
+        assertEquals("Hello A", cached.value(context0));
+        assertEquals(3, count[0]);
+
+        value[0] = "Hi <name>";
+        slams.reload();
+        assertEquals(0, cached.size());
+        assertEquals("Hi B", cached.value(context1));
+        assertEquals(4, count[0]);
+        assertEquals(1, cached.size());
+
+        assertEquals("Hi B", cached.value(PlaceholderResolver.builder().constant("x", "y").build(), context1));
+        assertEquals(5, count[0]);
+        assertEquals(1, cached.size());
+
+        cached.invalidateAll();
+        assertEquals(0, cached.size());
+    }
+
+    @Test
+    public void testCachedMessageCompiledResolver() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        int[] count = new int[1];
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+        CachedMessage<String> cached = CachedMessage.builder(entry).build();
+        PlaceholderResolver placeholderResolver = PlaceholderResolver.compile(PlaceholderResolver.builder()
+                .withArgs("name", arguments -> {
+                    count[0]++;
+                    return "World";
+                }).build());
+
+        slams.load("0", values -> values.put("test", "Hello <name>"));
+        assertEquals("Hello World", cached.value(placeholderResolver));
+        assertEquals("Hello World", cached.value(placeholderResolver));
+        assertEquals("Hello World", cached.value(placeholderResolver));
+        assertEquals(1, count[0]);
+        assertEquals(2, cached.hits());
+        assertEquals(1, cached.misses());
+        assertEquals(1, cached.size());
+    }
+
+    @Test
+    public void testRenderTo() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, PlaceholderResolver.builder().builtIn().add(Placeholder.constant("name", "World")).build());
+
+        slams.load("0", values -> values.put("test", "Hello <if_eq:<name>:World:<name>:Nobody> <local:<name>>!"));
+
+        StringBuilder builder = new StringBuilder(">");
+        entry.translate(null).renderTo(builder, Placeholder.withArgs("local", arguments -> arguments.get(0).toLowerCase()));
+        assertEquals(">Hello World world!", builder.toString());
+        assertEquals("Hello World <local:<name>>!", entry.value());
+
+        builder.setLength(0);
+        entry.translate(null).renderTo(builder, PlaceholderResolver.empty());
+        assertEquals(entry.value(), builder.toString());
+    }
+
+    @Test
+    public void testInstrumentation() throws IOException {
+        InMemoryInstrumentation instrumentation = Instrumentation.inMemory();
+        StandaloneSlams slams = StandaloneSlams.of(Slams.of("0", instrumentation), PlaceholderStyle.ANGLE_BRACKETS);
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+
+        slams.load("0", values -> values.put("test", "Hello <name>"), values -> {});
+        StandaloneMessage entry2 = StandaloneMessage.of("test2", slams); // registered after loading
+        assertEquals("Hello <name>", entry.value());
+        assertEquals("Hello World", entry.value(Placeholder.constant("name", "World")));
+        assertThrows(MissingTranslationException.class, entry2::value);
+
+        assertEquals(2, instrumentation.renders().get("test").count());
+        assertEquals(Collections.singletonMap("name", 1L), instrumentation.placeholderMisses());
+        assertEquals(Collections.singletonMap("0", 1L), instrumentation.missingTranslations());
+        assertEquals(2, instrumentation.parserLoads().get("0").size());
+        assertEquals(1, instrumentation.parserLoads().get("0").get(1).count());
+        assertEquals(1, instrumentation.compiles().get("0").count());
+
+        assertThrows(MissingTranslationException.class, slams::reload);
+        assertEquals(1, instrumentation.compiles().get("0").count());
+        InMemoryInstrumentation.Histogram histogram = instrumentation.renders().get("test");
+        assertTrue(histogram.percentile(50) <= histogram.percentile(100));
+        assertEquals(histogram.max(), histogram.percentile(100));
+
+        instrumentation.reset();
+        assertTrue(instrumentation.renders().isEmpty());
+    }
+
+    @Test
+    public void testCompiledPlaceholderResolver() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of(Slams.of("0"), PlaceholderStyle.ANGLE_BRACKETS);
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+        slams.load("0", values -> values.put("test", "<a> <b> <ctx_name> <dynamic> <missing>"));
+
+        AtomicInteger lookups = new AtomicInteger();
+        PlaceholderResolver dynamic = key -> {
+            lookups.incrementAndGet();
+            return key.equals("dynamic") || key.equals("b") ? Placeholder.constant(key, "dyn") : null;
+        };
+        PlaceholderResolver namespace = PlaceholderResolver.builder()
+                .namespace("ctx_", TestContext.class, TestContext::getName, builder -> builder.contextual("name", String.class, name -> name))
+                .build();
+        PlaceholderResolver resolver = PlaceholderResolver.compile(
+                PlaceholderResolver.of(Placeholder.constant("a", "1"), PlaceholderResolver.of(Placeholder.constant("a", "2"))),
+                namespace, dynamic, Placeholder.constant("b", "3"));
+
+        assertEquals("1 dyn Steve dyn <missing>", entry.value(resolver, new TestContext("Steve")));
+        int count = lookups.get();
+        assertEquals("1 dyn Steve dyn <missing>", entry.value(resolver, new TestContext("Steve")));
+        assertEquals(count, lookups.get());
+
+        assertSame(PlaceholderResolver.empty(), PlaceholderResolver.compile(PlaceholderResolver.empty()));
+        Placeholder a = Placeholder.constant("a", "1");
+        PlaceholderResolver flat = PlaceholderResolver.compile(PlaceholderResolver.compile(PlaceholderResolver.of(a)), resolver);
+        assertSame(a, flat.resolve("a"));
+        assertNull(flat.resolve("missing"));
+    }
+
+    @Test
+    public void testPlaceholderSchema() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        PlaceholderSchema schema = PlaceholderSchema.of("name", "coins", "first");
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, Placeholder.constant("currency", "$"), schema);
+        slams.load("0", values -> values.put("test", "<name> has <coins><currency> (<first:<name>:x>)"));
+
+        Placeholder first = Placeholder.withArgs("ignored", arguments -> arguments.get(0).substring(0, 1));
+        assertEquals("Steve has 42$ (S)", entry.value(schema.bind("Steve", 42, first)));
+        assertEquals("<name> has 42$ (<first:<name>:x>)", entry.value(schema.bind(null, 42, null)));
+        assertEquals("Alex has 7$ (<first:<name>:x>)", entry.value(PlaceholderResolver.of(Placeholder.constant("name", "Alex"), Placeholder.constant("coins", 7))));
+        assertSame(first, schema.bind("Alex", 0, first).resolve("first"));
+        assertNull(schema.bind("Alex", 0, null).resolve("first"));
+        assertEquals("name", schema.bind("Alex", 0, null).resolve("name").key());
+
+        assertThrows(IllegalArgumentException.class, () -> schema.bind("Steve"));
+        assertThrows(IllegalArgumentException.class, () -> PlaceholderSchema.of("a", "a"));
+        assertEquals(1, schema.slot("coins"));
+        assertEquals(-1, schema.slot("currency"));
+
+        StandaloneSlams slams2 = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        StandaloneMessage.of("test", slams2, PlaceholderResolver.empty(), schema);
+        assertThrows(UnknownPlaceholderException.class, () -> slams2.load("0", values -> values.put("test", "Hello <unknown>")));
+    }
+
+    @Test
+    public void testReusablePlaceholderResolver() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        StandaloneMessage entry = StandaloneMessage.of("test", slams);
+        slams.load("0", values -> values.put("test", "<name>: <int> <long> <double> <bool> <upper:abc> <missing>"));
+
+        ReusablePlaceholderResolver resolver;
+        try (ReusablePlaceholderResolver resolver0 = ReusablePlaceholderResolver.acquire()) {
+            resolver = resolver0;
+            resolver0.set("name", "Steve").set("int", 42).set("long", 1L << 40).set("double", 1.5).set("bool", true)
+                    .add(Placeholder.withArgs("upper", arguments -> arguments.get(0).toUpperCase()));
+            assertEquals("Steve: 42 1099511627776 1.5 true ABC <missing>", entry.value(resolver0));
+
+            StringBuilder builder = new StringBuilder();
+            entry.translate(null).renderTo(builder, resolver0);
+            assertEquals("Steve: 42 1099511627776 1.5 true ABC <missing>", builder.toString());
+            assertEquals(42, resolver0.resolve("int").value(new Object[0], Collections.emptyList(), Component.STRING_FACTORY).rawValue(resolver0, new Object[0]));
+
+            resolver0.set("int", 7).set("name", new StringBuilder("Alex"));
+            assertEquals("Alex: 7 1099511627776 1.5 true ABC <missing>", entry.value(resolver0));
+            assertEquals(6, resolver0.size());
+        }
+        assertEquals(0, resolver.size());
+        assertThrows(IllegalStateException.class, () -> resolver.set("name", "Steve"));
+
+        try (ReusablePlaceholderResolver resolver0 = ReusablePlaceholderResolver.acquire()) {
+            assertSame(resolver, resolver0);
+            for (int i = 0; i < 100; i++)
+                resolver0.set("key" + i, i);
+            assertEquals(100, resolver0.size());
+            for (int i = 0; i < 100; i++)
+                assertEquals(String.valueOf(i), resolver0.resolve("key" + i).value(new Object[0], Collections.emptyList(), Component.STRING_FACTORY).stringValue(resolver0, new Object[0]));
+            assertNull(resolver0.resolve("key100"));
+        }
+    }
+
+    @Test
+    public void testContexts() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0");
+        TestContext context = new TestContext("World");
+        TestContext2 context2 = new TestContext2("Moon");
+        AtomicInteger lookups = new AtomicInteger();
+        PlaceholderResolver placeholder = PlaceholderResolver.builder()
+                .contextual("name", TestContext.class, TestContext::getName)
+                .contextual("name2", TestContext2.class, TestContext2::getName, "none")
+                .conditional("moon", TestContext2.class, ctx -> ctx.getName().equals("Moon"))
+                .namespace("ns-", TestContext2.class, 1, (ctx, arguments) -> ctx.getName() + arguments.size(),
+                        builder -> builder.contextual("name", String.class, name -> name))
+                .add(Placeholder.of("custom", false, (contexts, arguments) -> {
+                    lookups.incrementAndGet();
+                    CharSequence sequence = Contexts.find(contexts, CharSequence.class);
+                    return Contexts.has(contexts, Integer.class) + ":" + sequence;
+                }))
+                .build();
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, placeholder);
+        slams.load("0", values -> values.put("test", "<name> <name2> <moon:yes:no> <ns-name:!> <custom>"));
+
+        assertEquals("World Moon yes Moon1 false:a", entry.value(context, new StringBuilder("a"), context2));
+        assertEquals("World none INVALID_CONTEXT INVALID_CONTEXT false:null", entry.value(context));
+        assertEquals("INVALID_CONTEXT Moon yes Moon1 true:null", entry.value(1, context2));
+        assertEquals(3, lookups.get());
+
+        Object[] contexts = {context, context2};
+        assertSame(context, Contexts.find(contexts, TestContext.class));
+        assertSame(context2, Contexts.find(contexts, TestContext2.class));
+        assertNull(Contexts.find(contexts, String.class));
+        assertFalse(Contexts.has(new Object[0], Object.class));
+    }
+
+    @Test
+    public void testAsyncPlaceholder() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        Map<String, CompletableFuture<Object>> futures = new HashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+        PlaceholderResolver placeholder = PlaceholderResolver.builder()
+                .async("balance", (contexts, arguments) -> {
+                    calls.incrementAndGet();
+                    return futures.computeIfAbsent("balance", key -> new CompletableFuture<>());
+                })
+                .async("stat", (contexts, arguments) -> {
+                    calls.incrementAndGet();
+                    return futures.computeIfAbsent("stat:" + arguments.get(0), key -> new CompletableFuture<>());
+                })
+                .withArgs("upper", arguments -> arguments.get(0).toUpperCase())
+                .build();
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, placeholder);
+        slams.load("0", values -> values.put("test", "<name> <balance> <balance> <stat:<balance>> <upper:<stat:kills>>"));
+
+        CompletableFuture<String> value;
+        try (ReusablePlaceholderResolver resolver = ReusablePlaceholderResolver.acquire()) {
+            value = entry.valueAsync(resolver.set("name", "Steve"));
+        }
+        assertFalse(value.isDone());
+        assertEquals(2, calls.get()); // <balance> and <stat:kills> are started concurrently
+        futures.get("stat:kills").complete("a lot");
+        assertFalse(value.isDone());
+        futures.get("balance").complete(42);
+        assertFalse(value.isDone()); // <stat:42> has only been started now
+        assertEquals(3, calls.get());
+        futures.get("stat:42").complete("x");
+        assertEquals("Steve 42 42 x A LOT", value.join());
+        assertEquals(3, calls.get());
+
+        assertEquals("<name> 42 42 x A LOT", entry.value());
+        assertEquals("<name> 42 42 x A LOT", entry.valueAsync().join());
+
+        futures.put("balance", new CompletableFuture<>());
+        assertThrows(IllegalStateException.class, entry::value); // a synchronous render does not block on pending placeholders
+        CompletableFuture<String> failed = entry.valueAsync();
+        futures.get("balance").completeExceptionally(new IllegalStateException("database unavailable"));
+        assertTrue(failed.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testAsyncPlaceholderWrappedReusableResolver() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        CompletableFuture<Object> balance = new CompletableFuture<>();
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, PlaceholderResolver.builder()
+                .async("balance", (contexts, arguments) -> balance)
+                .build());
+        slams.load("0", values -> values.put("test", "<name>=<balance> <rank>"));
+        PlaceholderResolver other = PlaceholderResolver.builder().constant("rank", "admin").build();
+
+        CompletableFuture<String> chained;
+        CompletableFuture<String> compiled;
+        try (ReusablePlaceholderResolver resolver = ReusablePlaceholderResolver.acquire()) {
+            resolver.set("name", "Steve");
+            chained = entry.valueAsync(PlaceholderResolver.of(resolver, other));
+            compiled = entry.valueAsync(PlaceholderResolver.compile(other, resolver));
+        }
+        try (ReusablePlaceholderResolver resolver = ReusablePlaceholderResolver.acquire()) {
+            resolver.set("name", "Alex"); // reuses the pooled instance
+            balance.complete(42);
+        }
+        assertEquals("Steve=42 admin", chained.join());
+        assertEquals("Steve=42 admin", compiled.join());
+    }
+
+    @Test
+    public void testCachedPlaceholder() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        AtomicInteger counter = new AtomicInteger();
+        CachedPlaceholder cached = Placeholder.cached(Placeholder.of("count", true, (contexts, arguments) ->
+                        counter.incrementAndGet() + String.join("", arguments)), Duration.ofHours(1),
+                contexts -> contexts.length == 0 ? null : ((TestContext) contexts[0]).getName());
+        CachedPlaceholder expired = Placeholder.cached(Placeholder.variable("expired", counter::incrementAndGet), Duration.ofNanos(1));
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, PlaceholderResolver.of(cached, expired));
+        StandaloneMessage entry2 = StandaloneMessage.of("test2", slams, PlaceholderResolver.of(expired));
+        slams.load("0", values -> {
+            values.put("test", "<count> <count:a> <count>");
+            values.put("test2", "<expired>");
+        });
+
+        assertFalse(cached.constexpr());
+        assertEquals("1 2a 1", entry.value(new TestContext("Steve")));
+        assertEquals("1 2a 1", entry.value(new TestContext("Steve")));
+        assertEquals("3 4a 3", entry.value(new TestContext("Alex")));
+        assertEquals(4, cached.misses());
+        assertEquals(5, cached.hits());
+        assertEquals(4, cached.size());
+
+        cached.invalidate("Steve");
+        assertEquals(2, cached.size());
+        assertEquals("5 6a 5", entry.value(new TestContext("Steve")));
+        assertEquals("7 8a 9", entry.value()); // not cached without a key
+
+        cached.invalidateAll();
+        assertEquals(0, cached.size());
+
+        assertNotEquals(entry2.value(), entry2.value());
+        assertEquals(0, expired.hits());
+    }
+
+    @Test
+    public void testCachedAsyncPlaceholder() throws IOException {
+        StandaloneSlams slams = StandaloneSlams.of("0", PlaceholderStyle.ANGLE_BRACKETS);
+        CompletableFuture<Object> balance = new CompletableFuture<>();
+        CompletableFuture<Object> stat = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        CachedPlaceholder cached = Placeholder.cached(Placeholder.async("bal", (contexts, arguments) -> {
+            calls.incrementAndGet();
+            return balance;
+        }), Duration.ofHours(1));
+        CachedPlaceholder upper = Placeholder.cached(Placeholder.withArgs("upper", arguments -> arguments.get(0).toUpperCase()), Duration.ofHours(1));
+        StandaloneMessage entry = StandaloneMessage.of("test", slams, PlaceholderResolver.builder()
+                .add(cached)
+                .add(upper)
+                .async("stat", (contexts, arguments) -> stat)
+                .build());
+        slams.load("0", values -> values.put("test", "bal=<bal> <upper:<stat>>"));
+
+        CompletableFuture<String> value = entry.valueAsync();
+        assertFalse(value.isDone());
+        assertEquals(0, cached.size()); // pending values are not cached
+        assertEquals(0, upper.size());
+        balance.complete(42);
+        stat.complete("a lot");
+        assertEquals("bal=42 A LOT", value.join());
+        assertEquals(1, cached.size());
+        assertEquals(1, upper.size());
+
+        assertEquals("bal=42 A LOT", entry.valueAsync().join());
+        assertEquals("bal=42 A LOT", entry.value());
+        assertEquals(1, calls.get());
+    }
 }